@@ -51,4 +51,21 @@ public class DataException extends RuntimeException {
     public DataException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * <p>Constructs a new DataException exception with the specified detail message, cause,
+     * suppression enabled or disabled, and writable stack trace enabled or disabled.</p>
+     *
+     * <p>Subclasses use this constructor to allow instances to be created without
+     * a stack trace. See {@link EmptyResultException} and {@link NonUniqueResultException}.</p>
+     *
+     * @param message            the detail message.
+     * @param cause              the cause. Null indicates that no other cause is specified.
+     * @param enableSuppression  whether or not suppression is enabled.
+     * @param writableStackTrace whether or not the stack trace is writable.
+     */
+    protected DataException(String message, Throwable cause,
+                            boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
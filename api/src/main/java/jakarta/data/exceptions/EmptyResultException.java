@@ -20,6 +20,15 @@ package jakarta.data.exceptions;
 /**
  * Data access exception thrown when a result was expected to have at least one row (or element)
  * but zero rows (or elements) were actually returned.
+ *
+ * <p>Because this exception reports a condition of the data rather than a failure
+ * of the provider or database, a Jakarta Data provider may raise it without a
+ * stack trace, and may raise the same instance from multiple invocations of
+ * repository methods, provided that
+ * the instance is created with {@link #EmptyResultException(String, Throwable, boolean, boolean)
+ * suppression and the writable stack trace disabled} and without a cause.
+ * Applications must not rely on the stack trace of this exception
+ * or on the identity of instances.</p>
  */
 public class EmptyResultException extends DataException {
     private static final long serialVersionUID = -4477636987874974491L;
@@ -52,4 +61,22 @@ public class EmptyResultException extends DataException {
     public EmptyResultException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * <p>Constructs a new EmptyResultException exception with the specified detail message, cause,
+     * suppression enabled or disabled, and writable stack trace enabled or disabled.</p>
+     *
+     * <p>A Jakarta Data provider can disable the stack trace and suppression
+     * in order to obtain an instance that is inexpensive to raise and that can be
+     * reused across invocations of repository methods.</p>
+     *
+     * @param message            the detail message.
+     * @param cause              the cause. Null indicates that no other cause is specified.
+     * @param enableSuppression  whether or not suppression is enabled.
+     * @param writableStackTrace whether or not the stack trace is writable.
+     */
+    public EmptyResultException(String message, Throwable cause,
+                                boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
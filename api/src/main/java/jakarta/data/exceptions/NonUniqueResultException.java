@@ -22,6 +22,15 @@ package jakarta.data.exceptions;
  * return type finds multiple results. To avoid raising an error for this, you can
  * use the <code>findFirst...</code> method name pattern or supply
  * <code>Limit.of(1)</code> as a parameter to explicitly request only the first result.
+ *
+ * <p>Because this exception reports a condition of the data rather than a failure
+ * of the provider or database, a Jakarta Data provider may raise it without a
+ * stack trace, and may raise the same instance from multiple invocations of
+ * repository methods, provided that
+ * the instance is created with {@link #NonUniqueResultException(String, Throwable, boolean, boolean)
+ * suppression and the writable stack trace disabled} and without a cause.
+ * Applications must not rely on the stack trace of this exception
+ * or on the identity of instances.</p>
  */
 public class NonUniqueResultException extends DataException {
     private static final long serialVersionUID = 7742411163016495764L;
@@ -54,4 +63,22 @@ public class NonUniqueResultException extends DataException {
     public NonUniqueResultException(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * <p>Constructs a new NonUniqueResultException exception with the specified detail message, cause,
+     * suppression enabled or disabled, and writable stack trace enabled or disabled.</p>
+     *
+     * <p>A Jakarta Data provider can disable the stack trace and suppression
+     * in order to obtain an instance that is inexpensive to raise and that can be
+     * reused across invocations of repository methods.</p>
+     *
+     * @param message            the detail message.
+     * @param cause              the cause. Null indicates that no other cause is specified.
+     * @param enableSuppression  whether or not suppression is enabled.
+     * @param writableStackTrace whether or not the stack trace is writable.
+     */
+    public NonUniqueResultException(String message, Throwable cause,
+                                    boolean enableSuppression, boolean writableStackTrace) {
+        super(message, cause, enableSuppression, writableStackTrace);
+    }
 }
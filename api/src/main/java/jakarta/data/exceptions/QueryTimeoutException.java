@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.exceptions;
+
+/**
+ * Thrown when a repository method does not complete its operation on the database within the
+ * {@link jakarta.data.repository.Timeout Timeout} that is supplied to it. The Jakarta Data provider
+ * cancels the operation and releases the resources that it holds for the operation before raising
+ * this exception.
+ */
+public class QueryTimeoutException extends DataException {
+    private static final long serialVersionUID = -1179332839615462923L;
+
+    /**
+     * Constructs a new QueryTimeoutException exception with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public QueryTimeoutException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new QueryTimeoutException exception with the specified detail message.
+     *
+     * @param message the detail message.
+     * @param cause another exception or error that caused this exception.
+     *        Null indicates that no other cause is specified.
+     */
+    public QueryTimeoutException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructs a new QueryTimeoutException exception with the specified cause.
+     *
+     * @param cause the cause.
+     */
+    public QueryTimeoutException(Throwable cause) {
+        super(cause);
+    }
+}
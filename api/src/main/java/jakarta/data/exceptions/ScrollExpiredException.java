@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.exceptions;
+
+/**
+ * Thrown when a repository method is invoked with a {@link jakarta.data.repository.Pageable Pageable}
+ * that requests the next slice of a {@linkplain jakarta.data.repository.Pageable.Mode#SCROLL scroll}
+ * after the server-side cursor for the scroll has expired or has been released.
+ * The Jakarta Data provider releases the cursor when its time to live elapses without a
+ * request for the next slice. The application can start a new scroll to obtain the results again.
+ */
+public class ScrollExpiredException extends DataException {
+    private static final long serialVersionUID = 4907286134918246217L;
+
+    /**
+     * Constructs a new ScrollExpiredException exception with the specified detail message.
+     *
+     * @param message the detail message.
+     */
+    public ScrollExpiredException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new ScrollExpiredException exception with the specified detail message.
+     *
+     * @param message the detail message.
+     * @param cause another exception or error that caused this exception.
+     *        Null indicates that no other cause is specified.
+     */
+    public ScrollExpiredException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructs a new ScrollExpiredException exception with the specified cause.
+     *
+     * @param cause the cause.
+     */
+    public ScrollExpiredException(Throwable cause) {
+        super(cause);
+    }
+}
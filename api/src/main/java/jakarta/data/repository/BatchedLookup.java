@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Allows the Jakarta Data provider to combine concurrent invocations of
+ * <code>findById</code> and <code>existsById</code> into a single
+ * <code>findAllById</code> operation on the database.</p>
+ *
+ * <p>When annotating a repository interface, <code>BatchedLookup</code> applies to
+ * the <code>findById</code> and <code>existsById</code> methods of the repository.
+ * When annotating one of those methods, it applies to that method, overriding any
+ * <code>BatchedLookup</code> annotation on the interface. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * &#64;BatchedLookup(window = 2, maxBatchSize = 200)
+ * public interface Products extends CrudRepository&lt;Product, Long&gt; {
+ * }
+ * </pre>
+ *
+ * <p>The provider collects the ids that are requested by invocations on any thread
+ * during a period of at most the {@link #window()}, starting from the first such
+ * invocation, and then looks up the distinct ids with a single operation. An id that is
+ * requested by multiple invocations is looked up once. A batch is looked up before the
+ * window ends if it reaches the {@link #maxBatchSize() maximum batch size}.
+ * Each invocation blocks until the batch that includes its id is looked up and then
+ * returns its own result, which must be the same as if the invocation were not batched.
+ * If the lookup fails, every invocation in the batch raises the failure.</p>
+ *
+ * <p>The provider must not batch an invocation that runs while a global transaction
+ * is active on the thread, so that the invocation observes the writes of the transaction.
+ * An invocation that is batched waits for up to the {@link #window()} in addition
+ * to the time for the lookup, which is a trade-off that is only worthwhile for
+ * repositories with many concurrent lookups by id. A provider that does not support
+ * batching runs each invocation individually.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface BatchedLookup {
+    /**
+     * <p>Maximum amount of time, in the {@link #unit() units} specified, for which
+     * to collect invocations into a batch.</p>
+     *
+     * <p>The default value is <code>1</code>.</p>
+     *
+     * @return maximum amount of time for which to collect invocations.
+     */
+    long window() default 1;
+
+    /**
+     * <p>Unit of the {@link #window()}.</p>
+     *
+     * <p>The default value is {@link TimeUnit#MILLISECONDS}.</p>
+     *
+     * @return unit of the window.
+     */
+    TimeUnit unit() default TimeUnit.MILLISECONDS;
+
+    /**
+     * <p>Maximum number of distinct ids to look up with a single operation.
+     * Must be at least <code>2</code>.</p>
+     *
+     * <p>The default value is <code>100</code>.</p>
+     *
+     * @return maximum number of distinct ids in a batch.
+     */
+    int maxBatchSize() default 100;
+}
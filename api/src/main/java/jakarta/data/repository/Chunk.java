@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+/**
+ * <p>Requests that a <code>deleteBy</code> or <code>updateBy</code> repository
+ * method run in the database as a series of smaller operations, each of which
+ * deletes or updates at most a maximum number of entities, rather than as a
+ * single operation that affects all matching entities at once.</p>
+ *
+ * <p><code>Chunk</code> is optionally specified as a parameter to a
+ * <code>deleteBy</code> or <code>updateBy</code> repository method in one of
+ * the parameter positions after the query parameters. When the method returns
+ * {@link java.util.stream.LongStream LongStream}, each element is the number of
+ * entities that were deleted or updated by one chunk. For example,</p>
+ *
+ * <pre>
+ * LongStream deleteByExpiresAtLessThan(Instant cutoff, Chunk chunk);
+ *
+ * ...
+ * try (LongStream counts = sessions.deleteByExpiresAtLessThan(now, Chunk.of(10000))) {
+ *     long total = counts.peek(count -&gt; progress.add(count)).sum();
+ * }
+ * </pre>
+ *
+ * <p>Chunks are processed in order of entity id, so that each entity is deleted
+ * or updated at most once, even if it continues to match the conditions after it is
+ * updated. When no global transaction is active on the thread, each chunk runs and
+ * is committed separately, which bounds the size of each transaction and how long
+ * locks are held. Chunks that were committed are not rolled back if a later chunk
+ * fails. When a global transaction is active, all chunks run as part of it.</p>
+ *
+ * <p>When the repository method returns a <code>LongStream</code>, chunks run
+ * lazily as the stream is consumed, and the stream ends after a chunk affects fewer
+ * than the {@link #maxEntities() maximum} number of entities. Closing the stream
+ * before then stops further chunks from running. For other return types, all chunks
+ * run before the method returns, which returns the combined count.</p>
+ *
+ * <p>A repository method will fail with a
+ * {@link jakarta.data.exceptions.DataException DataException}
+ * or a more specific subclass if</p>
+ * <ul>
+ * <li>multiple <code>Chunk</code> parameters are supplied to the
+ *     same method.</li>
+ * <li>a <code>Chunk</code> parameter is supplied to a method other than a
+ *     <code>deleteBy</code> or <code>updateBy</code> method.</li>
+ * </ul>
+ *
+ * @param maxEntities maximum number of entities to delete or update per chunk.
+ */
+public record Chunk(int maxEntities) {
+
+    /**
+     * <p>Limits the number of entities per chunk. For more descriptive code, use
+     * {@link #of(int) Chunk.of(maxEntities)}.</p>
+     *
+     * @param maxEntities maximum number of entities to delete or update per chunk.
+     * @throws IllegalArgumentException when maxEntities is less than 1.
+     */
+    public Chunk {
+        if (maxEntities < 1)
+            throw new IllegalArgumentException("maxEntities: " + maxEntities);
+    }
+
+    // Override to provide method documentation:
+    /**
+     * <p>Maximum number of entities that a single chunk deletes or updates.</p>
+     *
+     * @return maximum number of entities per chunk.
+     */
+    public int maxEntities() {
+        return maxEntities;
+    }
+
+    /**
+     * <p>Create a chunk that deletes or updates at most the specified
+     * number of entities.</p>
+     *
+     * @param maxEntities maximum number of entities per chunk.
+     * @return chunk that can be supplied to a <code>deleteBy</code>
+     *         or <code>updateBy</code> method; will never be {@literal null}.
+     * @throws IllegalArgumentException if maxEntities is less than 1.
+     */
+    public static Chunk of(int maxEntities) {
+        return new Chunk(maxEntities);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+/**
+ * <p>Consistency level for read operations of a repository, which trades the
+ * latency and cost of a read against whether it observes prior writes.
+ * Relational databases typically provide strong consistency for all reads,
+ * whereas many NoSQL databases are eventually consistent by default and
+ * offer stronger reads at a higher cost.</p>
+ *
+ * <p>A <code>Consistency</code> can be specified on a repository interface or
+ * method with the {@link ReadConsistency} annotation, or as a special parameter
+ * to a repository read method in one of the parameter positions after the query
+ * parameters, in which case it takes precedence over the annotation.
+ * For example,</p>
+ *
+ * <pre>
+ * &#64;ReadConsistency(Consistency.EVENTUAL)
+ * List&lt;Product&gt; findByNameLike(String pattern, Limit limit);
+ *
+ * Optional&lt;Product&gt; findByIdAndStatus(long id, Status status, Consistency consistency);
+ * ...
+ * product = products.findByIdAndStatus(id, Status.ORDERED, Consistency.STRONG);
+ * </pre>
+ *
+ * <p>A Jakarta Data provider uses the level that the data store offers which is
+ * at least as strong as the requested level, and otherwise raises
+ * {@link UnsupportedOperationException}. When no level is specified, the default
+ * level of the data store applies. A repository method fails with a
+ * {@link jakarta.data.exceptions.DataException DataException} or a more specific
+ * subclass if multiple <code>Consistency</code> parameters are supplied to the
+ * same method or if a <code>Consistency</code> parameter is supplied to a method
+ * that writes data.</p>
+ */
+public enum Consistency {
+    /**
+     * The read might not observe writes that completed before it started,
+     * including writes made by the same application, but observes all
+     * writes eventually if no further writes are made.
+     * This is typically the cheapest and lowest latency level.
+     */
+    EVENTUAL,
+
+    /**
+     * The read observes every write that was made by the same session before
+     * the read started, but might not observe writes made by other sessions.
+     * Writes that are made through repositories on the same thread belong to
+     * the same session. To read its own writes across threads or processes,
+     * an application can instead present the {@link ConsistencyToken} that
+     * was returned when saving.
+     */
+    SESSION,
+
+    /**
+     * The read observes every write that completed before it started,
+     * regardless of which application or session made the write.
+     */
+    STRONG
+}
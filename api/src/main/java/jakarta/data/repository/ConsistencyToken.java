@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.util.Objects;
+
+/**
+ * <p>Identifies a point in the history of writes to a data store, such that a
+ * read operation which presents the token is guaranteed to observe every write
+ * up to and including that point. This allows an application to read its own
+ * writes against an eventually consistent data store without requesting
+ * {@link Consistency#STRONG strong} consistency for every read.</p>
+ *
+ * <p>A repository method that saves entities can declare
+ * <code>ConsistencyToken</code> as its return type, in which case the
+ * Jakarta Data provider returns a token that covers the writes made by
+ * the method. A repository read method can accept a
+ * <code>ConsistencyToken</code> as a special parameter in one of the
+ * parameter positions after the query parameters. For example,</p>
+ *
+ * <pre>
+ * ConsistencyToken save(Iterable&lt;Product&gt; products);
+ *
+ * long countByNameLike(String pattern, ConsistencyToken token);
+ * ...
+ * ConsistencyToken token = products.save(newProducts);
+ * count = products.countByNameLike("%phone%", token);
+ * </pre>
+ *
+ * <p>The value of a token is defined by the Jakarta Data provider and is
+ * opaque to the application, which can pass it to another process, for
+ * example within a request header, so that reads made by that process
+ * observe the same writes. A provider for a data store that offers strong
+ * consistency for all reads can return tokens that are always satisfied.
+ * A provider for a data store that cannot guarantee to observe writes
+ * that are identified by a token raises {@link UnsupportedOperationException}
+ * from repository methods that return or accept a
+ * <code>ConsistencyToken</code>.</p>
+ *
+ * <p>A repository method will fail with a
+ * {@link jakarta.data.exceptions.DataException DataException}
+ * or a more specific subclass if</p>
+ * <ul>
+ * <li>multiple <code>ConsistencyToken</code> parameters are supplied to the
+ *     same method.</li>
+ * <li>a <code>ConsistencyToken</code> parameter is supplied to a method
+ *     that writes data.</li>
+ * <li>the token was not issued by the data store that the repository uses.</li>
+ * </ul>
+ *
+ * @param value provider-defined value of the token.
+ */
+public record ConsistencyToken(String value) {
+
+    /**
+     * <p>Creates a token from a value that was issued by the Jakarta Data provider.
+     * Applications obtain tokens from repository methods that save entities
+     * and only need to use this method to recreate a token from its
+     * {@link #value() value}, for example after receiving it from another process.</p>
+     *
+     * @param value provider-defined value of the token.
+     * @throws NullPointerException when the value is null.
+     * @throws IllegalArgumentException when the value is empty or blank.
+     */
+    public ConsistencyToken {
+        Objects.requireNonNull(value, "value is required");
+        if (value.isBlank())
+            throw new IllegalArgumentException("value: " + value);
+    }
+
+    // Override to provide method documentation:
+    /**
+     * Provider-defined value of the token, which can be used to
+     * recreate the token with {@link #of(String) ConsistencyToken.of}.
+     *
+     * @return the value of the token; will never be {@literal null}.
+     */
+    public String value() {
+        return value;
+    }
+
+    /**
+     * Create a {@link ConsistencyToken} from a value that was issued
+     * by the Jakarta Data provider.
+     *
+     * @param value provider-defined value of the token.
+     * @return a {@link ConsistencyToken} instance. Never {@code null}.
+     * @throws NullPointerException when the value is null.
+     * @throws IllegalArgumentException when the value is empty or blank.
+     */
+    public static ConsistencyToken of(String value) {
+        return new ConsistencyToken(value);
+    }
+}
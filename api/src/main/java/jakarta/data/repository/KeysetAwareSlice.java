@@ -124,11 +124,21 @@ package jakarta.data.repository;
  */
 public interface KeysetAwareSlice<T> extends Slice<T> {
     /**
-     * Returns a {@link Pageable.Cursor Cursor} for keyset values at the
-     * specified position.
+     * <p>Returns a {@link Pageable.Cursor Cursor} for keyset values at the
+     * specified position.</p>
+     *
+     * <p>Jakarta Data providers are not required to compute a cursor for
+     * every result when the slice is obtained. A provider can compute the
+     * keyset values for the first and last results, which are needed for
+     * {@link #previousPageable()} and {@link #nextPageable()}, and compute
+     * the keyset values for other positions when requested, from the entity
+     * at that position. Cursors that are obtained for the same position,
+     * whether or not at the same time, are equal.</p>
      *
      * @param index position (0 is first) of a result on the page.
      * @return cursor for keyset values at the specified position.
+     * @throws IndexOutOfBoundsException if the index is negative or is
+     *         greater than or equal to the {@link #numberOfElements()}.
      */
     Pageable.Cursor getKeysetCursor(int index);
 
@@ -43,7 +43,10 @@ package jakarta.data.repository;
  * <li><code>Limit</code> and {@link Pageable} parameters are supplied to the
  *     same method.</li>
  * <li>a <code>Limit</code> parameter is supplied in combination
- *     with the <code>First</code> keyword.</li>
+ *     with the <code>First</code> keyword followed by a number.
+ *     The <code>First</code> keyword without a number can be
+ *     combined with a <code>Limit</code> parameter, in which case
+ *     the <code>Limit</code> determines the number of results.</li>
  * </ul>
  *
  * @param maxResults maximum number of results for a query.
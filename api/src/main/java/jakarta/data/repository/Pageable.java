@@ -17,7 +17,7 @@
  */
 package jakarta.data.repository;
 
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -53,6 +53,9 @@ import java.util.List;
  *     {@link Sort} parameters are also supplied to the same method.</li>
  * <li>the database is incapable of ordering with the requested
  *     sort criteria.</li>
+ * <li>a <code>Pageable</code> that requests {@link Mode#SCROLL scroll}
+ *     pagination is supplied to a method that returns a
+ *     {@link KeysetAwareSlice} or {@link KeysetAwarePage}.</li>
  * </ul>
  */
 public interface Pageable {
@@ -65,7 +68,7 @@ public interface Pageable {
      * @throws IllegalArgumentException when the page number is negative or zero.
      */
     static Pageable ofPage(long pageNumber) {
-        return new Pagination(pageNumber, 10, Collections.emptyList(), Mode.OFFSET, null);
+        return new Pagination(pageNumber, 10, List.of(), Mode.OFFSET, null);
     }
 
     /**
@@ -77,7 +80,7 @@ public interface Pageable {
      * @throws IllegalArgumentException when maximum page size is negative or zero.
      */
     static Pageable ofSize(int maxPageSize) {
-        return new Pagination(1, maxPageSize, Collections.emptyList(), Mode.OFFSET, null);
+        return new Pagination(1, maxPageSize, List.of(), Mode.OFFSET, null);
     }
 
     /**
@@ -136,6 +139,22 @@ public interface Pageable {
      */
     Pageable beforeKeysetCursor(Cursor keysetCursor);
 
+    /**
+     * <p>Requests the next slice of a {@link Mode#SCROLL scroll}, continuing
+     * from the server-side cursor that is identified by the token.
+     * Jakarta Data providers use this method to create the <code>Pageable</code>
+     * that is returned by {@link Slice#nextPageable()} for a scroll.
+     * Applications do not need to invoke it.</p>
+     *
+     * @param token opaque token that the Jakarta Data provider assigns to the server-side cursor.
+     * @return a new instance of <code>Pageable</code> with scroll pagination, the
+     *         next page number, and a {@link #cursor() cursor} that contains the token.
+     *         This method never returns <code>null</code>.
+     * @throws IllegalArgumentException if the token is null.
+     * @throws UnsupportedOperationException if this <code>Pageable</code> does not request scroll pagination.
+     */
+    Pageable afterScrollToken(Object token);
+
     /**
      * Compares with another instance to determine if both represent the same
      * pagination information.
@@ -148,9 +167,11 @@ public interface Pageable {
 
     /**
      * Returns the keyset values which are the starting point for
-     * keyset pagination.
+     * keyset pagination, or the token of the server-side cursor
+     * for scroll pagination.
      *
-     * @return the keyset values; <code>null</code> if using offset pagination.
+     * @return the keyset values or token; <code>null</code> if using offset pagination
+     *         or when requesting the first slice of a scroll.
      */
     Cursor cursor();
 
@@ -168,6 +189,34 @@ public interface Pageable {
      */
     long page();
 
+    /**
+     * <p>Indicates whether the application requests that the Jakarta Data provider
+     * prefetch the next page of results. When prefetching is requested and a
+     * repository method returns a {@link Slice} or {@link Page} that might have a
+     * next page, the provider can asynchronously obtain the next page and return
+     * it when the application invokes the repository method with the same query
+     * parameters and the <code>Pageable</code> from {@link Slice#nextPageable()}.</p>
+     *
+     * <p>Prefetching is a hint. Jakarta Data providers bound the amount of
+     * memory that is held by prefetched pages and can decline to prefetch,
+     * for example when that bound is reached or when the repository method
+     * participates in a transaction. A prefetched page reflects the data at
+     * the time it was obtained rather than the time it is requested.</p>
+     *
+     * @return whether prefetching of the next page is requested.
+     *         The default is <code>false</code>.
+     */
+    boolean prefetch();
+
+    /**
+     * Returns the maximum amount of time for which the Jakarta Data provider keeps
+     * the server-side cursor of a {@link Mode#SCROLL scroll} open while waiting for
+     * the request for the next slice.
+     *
+     * @return the time to live; <code>null</code> if not using scroll pagination.
+     */
+    Duration timeToLive();
+
     /**
      * Returns the requested size of each page
      *
@@ -207,6 +256,43 @@ public interface Pageable {
      */
     Pageable page(long pageNumber);
 
+    /**
+     * <p>Creates a new <code>Pageable</code> instance representing the same
+     * pagination information, except requesting or not requesting that the
+     * Jakarta Data provider {@link #prefetch() prefetch} the next page.
+     * The <code>Pageable</code> instances that are obtained from it, including
+     * from {@link Slice#nextPageable()}, retain the request. For example,</p>
+     *
+     * <pre>
+     * Pageable pagination = Pageable.ofSize(50).sortBy(Sort.asc("name")).prefetch(true);
+     * </pre>
+     *
+     * @param prefetch whether to request prefetching of the next page.
+     * @return a new instance of <code>Pageable</code>. This method never returns <code>null</code>.
+     */
+    Pageable prefetch(boolean prefetch);
+
+    /**
+     * <p>Creates a new <code>Pageable</code> instance representing the same
+     * page size and sort criteria, except requesting {@link Mode#SCROLL scroll}
+     * pagination, where the Jakarta Data provider keeps a server-side cursor open
+     * between requests for successive slices of results. The scroll starts from
+     * the first slice, which has page number 1, regardless of the page number
+     * of this instance. For example,</p>
+     *
+     * <pre>
+     * Pageable pagination = Pageable.ofSize(1000).scroll(Duration.ofMinutes(5));
+     * </pre>
+     *
+     * @param timeToLive maximum amount of time to keep the server-side cursor open
+     *        while waiting for the request for the next slice.
+     * @return a new instance of <code>Pageable</code> for the first slice of a scroll.
+     *         This method never returns <code>null</code>.
+     * @throws IllegalArgumentException if the time to live is zero or negative.
+     * @throws NullPointerException if the time to live is null.
+     */
+    Pageable scroll(Duration timeToLive);
+
     /**
      * <p>Creates a new <code>Pageable</code> instance representing the same
      * pagination information, except with the specified maximum page size.</p>
@@ -276,12 +362,27 @@ public interface Pageable {
          * the first result based on the page number and maximum page size.
          * Offset pagination is used when a cursor is not supplied.
          */
-        OFFSET
+        OFFSET,
+
+        /**
+         * Indicates a request for a slice using scroll pagination, where the
+         * Jakarta Data provider runs the query once and keeps a server-side
+         * cursor open, returning successive slices from the cursor without
+         * running the query again. The cursor is identified by a token that
+         * the provider includes in the {@link Pageable#cursor() cursor} of
+         * the {@link Slice#nextPageable() next pageable}. The provider releases
+         * the server-side cursor after the last slice or after the
+         * {@link Pageable#timeToLive() time to live} elapses without a request
+         * for the next slice, after which requesting the next slice raises
+         * {@link jakarta.data.exceptions.ScrollExpiredException ScrollExpiredException}.
+         */
+        SCROLL
     }
 
     /**
      * Represents keyset values, which can be a starting point for
-     * requesting a next or previous page.
+     * requesting a next or previous page, or the token of the
+     * server-side cursor for {@link Mode#SCROLL scroll} pagination.
      */
     interface Cursor {
         /**
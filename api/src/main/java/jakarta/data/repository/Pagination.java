@@ -17,15 +17,17 @@
  */
 package jakarta.data.repository;
 
-import java.util.Collections;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 /**
  * Built-in implementation of Pageable.
  */
-record Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor cursor) implements Pageable {
+record Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor cursor, boolean prefetch,
+                  Duration timeToLive) implements Pageable {
 
     Pagination {
         if (page < 1) {
@@ -34,35 +36,57 @@ record Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor curso
             throw new IllegalArgumentException("maxPageSize: " + size);
         }
 
-        if (mode != Mode.OFFSET && (cursor == null || cursor.size() == 0)) {
+        if (mode == Mode.SCROLL) {
+            if (timeToLive == null || timeToLive.isZero() || timeToLive.isNegative()) {
+                throw new IllegalArgumentException("timeToLive: " + timeToLive);
+            }
+        } else if (mode != Mode.OFFSET && (cursor == null || cursor.size() == 0)) {
             throw new IllegalArgumentException("No keyset values were provided.");
         }
     }
 
+    Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor cursor) {
+        this(page, size, sorts, mode, cursor, false, null);
+    }
+
     @Override
     public Pageable afterKeyset(Object... keyset) {
-        return new Pagination(page, size, sorts, Mode.CURSOR_NEXT, new KeysetCursor(keyset));
+        return new Pagination(page, size, sorts, Mode.CURSOR_NEXT, new KeysetCursor(keyset), prefetch, null);
     }
 
     @Override
     public Pageable beforeKeyset(Object... keyset) {
-        return new Pagination(page, size, sorts, Mode.CURSOR_PREVIOUS, new KeysetCursor(keyset));
+        return new Pagination(page, size, sorts, Mode.CURSOR_PREVIOUS, new KeysetCursor(keyset), prefetch, null);
     }
 
     @Override
     public Pageable afterKeysetCursor(Cursor keysetCursor) {
-        return new Pagination(page, size, sorts, Mode.CURSOR_NEXT, keysetCursor);
+        return new Pagination(page, size, sorts, Mode.CURSOR_NEXT, keysetCursor, prefetch, null);
     }
 
     @Override
     public Pageable beforeKeysetCursor(Cursor keysetCursor) {
-        return new Pagination(page, size, sorts, Mode.CURSOR_PREVIOUS, keysetCursor);
+        return new Pagination(page, size, sorts, Mode.CURSOR_PREVIOUS, keysetCursor, prefetch, null);
+    }
+
+    @Override
+    public Pageable afterScrollToken(Object token) {
+        if (mode != Mode.SCROLL) {
+            throw new UnsupportedOperationException("Only supported for scroll pagination. Use scroll to request it.");
+        }
+        if (token == null) {
+            throw new IllegalArgumentException("No scroll token was provided.");
+        }
+        return new Pagination(page + 1, size, sorts, Mode.SCROLL, new KeysetCursor(token), prefetch, timeToLive);
     }
 
     @Override
     public Pageable next() {
         if (mode == Mode.OFFSET) {
-            return new Pagination((page + 1), this.size, this.sorts, Mode.OFFSET, null);
+            return new Pagination((page + 1), this.size, this.sorts, Mode.OFFSET, null, prefetch, null);
+        } else if (mode == Mode.SCROLL) {
+            throw new UnsupportedOperationException("Not supported for scroll pagination. Instead obtain the nextPageable " +
+                    "from the Slice.");
         } else {
             throw new UnsupportedOperationException("Not supported for keyset pagination. Instead use afterKeyset or afterKeysetCursor " +
                     "to provide the next keyset values or obtain the nextPageable from a KeysetAwareSlice.");
@@ -74,9 +98,17 @@ record Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor curso
         StringBuilder s = new StringBuilder(mode == Mode.OFFSET ? 100 : 150)
                 .append("Pageable{page=").append(page)
                 .append(", size=").append(size);
+        if (mode != Mode.OFFSET) {
+            s.append(", mode=").append(mode);
+        }
         if (cursor != null) {
-            s.append(", mode=").append(mode)
-            .append(", ").append(cursor.size()).append(" keys");
+            s.append(", ").append(cursor.size()).append(mode == Mode.SCROLL ? " token" : " keys");
+        }
+        if (timeToLive != null) {
+            s.append(", timeToLive=").append(timeToLive);
+        }
+        if (prefetch) {
+            s.append(", prefetch");
         }
         for (Sort sort : sorts) {
             s.append(", ").append(sort.property());
@@ -90,24 +122,35 @@ record Pagination(long page, int size, List<Sort> sorts, Mode mode, Cursor curso
 
     @Override
     public Pageable page(long pageNumber) {
-        return new Pagination(pageNumber, size, sorts, mode, cursor);
+        return new Pagination(pageNumber, size, sorts, mode, cursor, prefetch, timeToLive);
+    }
+
+    @Override
+    public Pageable prefetch(boolean prefetch) {
+        return new Pagination(page, size, sorts, mode, cursor, prefetch, timeToLive);
+    }
+
+    @Override
+    public Pageable scroll(Duration timeToLive) {
+        Objects.requireNonNull(timeToLive, "timeToLive is required");
+        return new Pagination(1, size, sorts, Mode.SCROLL, null, prefetch, timeToLive);
     }
 
     @Override
     public Pageable size(int maxPageSize) {
-        return new Pagination(page, maxPageSize, sorts, mode, cursor);
+        return new Pagination(page, maxPageSize, sorts, mode, cursor, prefetch, timeToLive);
     }
 
     @Override
     public Pageable sortBy(Iterable<Sort> sorts) {
         List<Sort> sortList = sorts == null
-                ? Collections.emptyList()
+                ? List.of()
                 : StreamSupport.stream(sorts.spliterator(), false).collect(Collectors.toUnmodifiableList());
-        return new Pagination(page, size, sortList, mode, cursor);
+        return new Pagination(page, size, sortList, mode, cursor, prefetch, timeToLive);
     }
 
     @Override
     public Pageable sortBy(Sort... sorts) {
-        return new Pagination(page, size, sorts == null ? Collections.emptyList() : List.of(sorts), mode, cursor);
+        return new Pagination(page, size, sorts == null ? List.of() : List.of(sorts), mode, cursor, prefetch, timeToLive);
     }
 }
\ No newline at end of file
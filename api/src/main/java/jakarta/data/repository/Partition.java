@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.util.stream.Stream;
+
+/**
+ * <p>A range of entity ids that is one of the disjoint partitions of all entities
+ * of a repository. Partitions allow the entities of a large repository to be processed
+ * in parallel, with each partition read independently, such as by a separate thread
+ * that uses a separate connection to the database.</p>
+ *
+ * <p>Partitions are obtained from a repository method named {@code findAllPartitioned}
+ * that the repository interface declares with a single {@code int} parameter, which is the
+ * maximum number of partitions, and a return type of {@code List<Partition<T, K>>}.
+ * Built-in repository interfaces do not declare this method. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * public interface Products extends CrudRepository&lt;Product, Long&gt; {
+ *     List&lt;Partition&lt;Product, Long&gt;&gt; findAllPartitioned(int maxPartitions);
+ * }
+ *
+ * List&lt;Partition&lt;Product, Long&gt;&gt; partitions = products.findAllPartitioned(8);
+ * partitions.parallelStream().forEach(partition -&gt; {
+ *     try (Stream&lt;Product&gt; stream = partition.stream()) {
+ *         stream.forEach(this::reprice);
+ *     }
+ * });
+ * </pre>
+ *
+ * <p>A partition contains the entities with an id that is greater than or equal to
+ * the {@link #lowerBound() lower bound} and less than the {@link #upperBound() upper bound},
+ * according to the ordering of ids by the database.</p>
+ *
+ * <p>The Jakarta Data provider computes the bounds of the partitions from the distribution
+ * of ids in the database so that partitions contain similar numbers of entities.
+ * The first partition has no lower bound and the last partition has no upper bound,
+ * so that together the partitions cover all possible ids and every entity belongs to
+ * exactly one partition. The {@code findAllPartitioned} method returns the partitions
+ * ordered by id range, and never returns {@code null} or an empty list. It returns fewer
+ * partitions than requested if the database contains too few entities to divide further.
+ * Entities that are added or removed after the partitions are computed might or might
+ * not be read from the partition that contains their id.</p>
+ *
+ * <p>The {@code findAllPartitioned} method raises {@link IllegalArgumentException}
+ * if the maximum number of partitions is less than 1, and raises
+ * {@link UnsupportedOperationException} if the database is incapable of
+ * ordering by the entity id.</p>
+ *
+ * @param <T> entity type.
+ * @param <K> type of the entity id.
+ */
+public interface Partition<T, K> {
+
+    /**
+     * Returns the smallest id that can be within this partition.
+     *
+     * @return the inclusive lower bound, or <code>null</code> if this is the
+     *         first partition, which has no lower bound.
+     */
+    K lowerBound();
+
+    /**
+     * Returns the id after the largest id that can be within this partition,
+     * which is the lower bound of the next partition.
+     *
+     * @return the exclusive upper bound, or <code>null</code> if this is the
+     *         last partition, which has no upper bound.
+     */
+    K upperBound();
+
+    /**
+     * <p>Returns a slice of the entities within this partition, ordered by id ascending.
+     * The {@link Pageable} must not have sort criteria. Use
+     * {@link KeysetAwareSlice#nextPageable()} to obtain subsequent slices,
+     * which are requested relative to the last id of the prior slice.</p>
+     *
+     * @param pagination size of the slice and, for subsequent slices, the
+     *                   keyset from which to continue.
+     * @return a slice of entities; will never be {@literal null}.
+     * @throws NullPointerException when pagination is null.
+     * @throws IllegalArgumentException when pagination has sort criteria.
+     */
+    KeysetAwareSlice<T> slice(Pageable pagination);
+
+    /**
+     * <p>Returns all entities within this partition, ordered by id ascending.
+     * The caller must close the stream.</p>
+     *
+     * @return all entities within this partition; will never be {@literal null}.
+     */
+    Stream<T> stream();
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Requests a {@link Consistency} level for the read operations of a repository.</p>
+ *
+ * <p>When annotating a repository interface, <code>ReadConsistency</code> applies to
+ * all of the read operations of the repository. When annotating a repository method,
+ * it applies to that method, overriding any <code>ReadConsistency</code> annotation on
+ * the interface. A {@link Consistency} special parameter that is supplied to the method
+ * overrides both. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * &#64;ReadConsistency(Consistency.EVENTUAL)
+ * public interface Products extends CrudRepository&lt;Product, Long&gt; {
+ *
+ *     // cheap, may not observe the latest writes
+ *     List&lt;Product&gt; findByNameLike(String pattern, Limit limit);
+ *
+ *     // must observe all prior writes
+ *     &#64;ReadConsistency(Consistency.STRONG)
+ *     Optional&lt;Product&gt; findBySku(String sku);
+ * }
+ * </pre>
+ *
+ * <p>Read operations are the same as for {@link ReadReplica}. <code>ReadConsistency</code>
+ * must not annotate a method that writes data. When combined with <code>ReadReplica</code>,
+ * the Jakarta Data provider routes a read to a replica only if the replica can provide the
+ * requested consistency level, which for {@link Consistency#STRONG STRONG} generally means
+ * using the primary data store.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface ReadConsistency {
+    /**
+     * <p>The consistency level for read operations.</p>
+     *
+     * @return the consistency level.
+     */
+    Consistency value();
+}
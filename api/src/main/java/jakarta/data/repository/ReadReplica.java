@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>Allows read operations of a repository to be routed to read replicas
+ * of the {@link Repository#dataStore() data store}, while write operations
+ * continue to use the primary data store.</p>
+ *
+ * <p>When annotating a repository interface, <code>ReadReplica</code> applies to
+ * all of the read operations of the repository. When annotating a repository
+ * method, it applies to that method, overriding any <code>ReadReplica</code>
+ * annotation on the interface. For example,</p>
+ *
+ * <pre>
+ * &#64;Repository(dataStore = "java:comp/env/jdbc/orders")
+ * &#64;ReadReplica(maxStaleness = 30, unit = TimeUnit.SECONDS)
+ * public interface Orders extends CrudRepository&lt;Order, Long&gt; {
+ *
+ *     // may read from a replica that lags the primary by up to 30 seconds
+ *     Page&lt;Order&gt; findByCustomerId(long customerId, Pageable pagination);
+ *
+ *     // must observe every write that was committed before it runs
+ *     &#64;ReadReplica(maxStaleness = 0)
+ *     Optional&lt;Order&gt; findByIdAndStatus(long id, Status status);
+ * }
+ * </pre>
+ *
+ * <p>Read operations are <code>find...By</code>, <code>count...By</code> and
+ * <code>exists...By</code> methods, the <code>findById</code>, <code>findAll</code>,
+ * <code>findAllById</code>, <code>count</code> and <code>existsById</code> methods
+ * of the built-in repository interfaces, and {@link Query} methods that only read data.
+ * All other operations, including <code>save</code>, <code>saveAll</code>,
+ * <code>delete...</code>, <code>deleteBy...</code> and <code>updateBy...</code>,
+ * always use the primary data store. <code>ReadReplica</code> must not annotate
+ * a method that writes data.</p>
+ *
+ * <p>A Jakarta Data provider routes a read operation to a replica only if the
+ * replica lags the primary by no more than the {@link #maxStaleness() maximum staleness}
+ * and otherwise uses the primary. The provider must use the primary for read
+ * operations that run while a global transaction is active on the thread, so that
+ * the transaction observes its own writes. Replicas are identified by the
+ * {@link #value() names} that are listed on the annotation or, absent those, by
+ * vendor-specific configuration that is associated with the data store of the repository.
+ * A provider that does not support replicas, or a data store that has none,
+ * uses the primary for all operations.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.TYPE })
+public @interface ReadReplica {
+    /**
+     * Value for the {@link #maxStaleness()} attribute that allows reading
+     * from a replica regardless of how far it lags the primary.
+     */
+    static final long ANY_STALENESS = -1;
+
+    /**
+     * <p>Optionally names the read replicas of the data store, which the
+     * Jakarta Data provider interprets in the same vendor-specific way as the
+     * {@link Repository#dataStore() dataStore} of the repository.</p>
+     *
+     * <p>The default value is an empty list, which means that the replicas are
+     * determined by vendor-specific configuration of the data store.</p>
+     *
+     * @return names of read replicas.
+     */
+    String[] value() default {};
+
+    /**
+     * <p>Maximum amount of time, in the {@link #unit() units} specified, by which
+     * a replica is allowed to lag the primary data store in order to be used for
+     * read operations. A value of <code>0</code> requires the primary data store
+     * or a replica that is known to be current.</p>
+     *
+     * <p>The default value is {@link #ANY_STALENESS}.</p>
+     *
+     * @return maximum staleness, or {@link #ANY_STALENESS}.
+     */
+    long maxStaleness() default ANY_STALENESS;
+
+    /**
+     * <p>Unit of the {@link #maxStaleness() maximum staleness}.</p>
+     *
+     * <p>The default value is {@link TimeUnit#SECONDS}.</p>
+     *
+     * @return unit of the maximum staleness.
+     */
+    TimeUnit unit() default TimeUnit.SECONDS;
+}
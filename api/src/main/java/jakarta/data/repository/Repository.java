@@ -92,6 +92,10 @@ public @interface Repository {
      * or a {@code javax.sql.DataSource} JNDI name or resource reference,
      * or other vendor-specific configuration.</p>
      *
+     * <p>The data store is the primary data store for the repository.
+     * Read operations can be routed to replicas of the data store by
+     * annotating the repository or its methods with {@link ReadReplica}.</p>
+     *
      * <p>The default value of this attribute is {@link #DEFAULT_DATA_STORE}.</p>
      *
      * @return the name of a data store or {@link #DEFAULT_DATA_STORE}.
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * <p>Annotates a repository interface whose entities are partitioned across
+ * multiple data stores, called shards, according to the value of an entity
+ * attribute, called the shard key.</p>
+ *
+ * <p>For example,</p>
+ *
+ * <pre>
+ * &#64;Repository
+ * &#64;Sharded(key = "customerId", value = { "orders-0", "orders-1", "orders-2" })
+ * public interface Orders extends CrudRepository&lt;Order, Long&gt; {
+ *
+ *     // runs on the single shard that holds the customer's orders
+ *     List&lt;Order&gt; findByCustomerIdAndStatus(long customerId, Status status);
+ *
+ *     // runs on every shard, merging the results in sort order
+ *     &#64;OrderBy("placedOn")
+ *     &#64;OrderBy("id")
+ *     KeysetAwareSlice&lt;Order&gt; findByStatus(Status status, Pageable pagination);
+ * }
+ * </pre>
+ *
+ * <p>The Jakarta Data provider assigns each value of the shard key to exactly one
+ * shard, using a vendor-specific function that must give the same result for the same
+ * value and the same list of shards. Operations are routed as follows:</p>
+ * <ul>
+ * <li><code>save</code>, <code>saveAll</code>, <code>delete</code> and
+ *     <code>deleteAll(Iterable)</code> run on the shard of the shard key value of each entity.</li>
+ * <li><code>findById</code>, <code>existsById</code>, <code>deleteById</code>,
+ *     <code>findAllById</code> and <code>deleteAllById</code> run on the shard of each id
+ *     if the shard key is the id, and otherwise on every shard.</li>
+ * <li>Query by method name runs on a single shard if its conditions require the shard key
+ *     to equal a parameter value, and otherwise on every shard.</li>
+ * <li>{@link Query} methods run on every shard.</li>
+ * </ul>
+ *
+ * <p>When an operation runs on every shard, the provider combines the results.
+ * Counts and numbers of deleted or updated entities are added together and existence is
+ * true if it is true for any shard. Results of find operations are merged in the order of
+ * the sort criteria, after which {@link Limit}, {@link Pageable} and the <code>First</code>
+ * keyword are applied to the merged results, such that the results are the same as if
+ * all entities were in a single data store. To do so, the provider requests from each shard
+ * at most as many results as could appear in the merged results. See the specification
+ * for the rules on sorting and pagination across shards.</p>
+ *
+ * <p>Operations that run on multiple shards are not atomic across shards
+ * unless they run in a global transaction in which all of the shards are enlisted.</p>
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Sharded {
+    /**
+     * <p>Names of the data stores that are the shards, which the Jakarta Data provider
+     * interprets in the same vendor-specific way as {@link Repository#dataStore()}.
+     * The order of the shards is significant to the assignment of shard key values
+     * to shards and must not change while entities are stored.</p>
+     *
+     * @return names of the data stores that are the shards.
+     */
+    String[] value();
+
+    /**
+     * <p>Name of the entity attribute that is the shard key.
+     * The shard key value of an entity must not change after it is saved.</p>
+     *
+     * @return name of the entity attribute that is the shard key.
+     */
+    String key();
+}
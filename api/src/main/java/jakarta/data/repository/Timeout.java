@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * <p>Bounds the amount of time that a single invocation of a repository
+ * method is allowed to spend performing its operation on the database.</p>
+ *
+ * <p><code>Timeout</code> is optionally specified as a parameter to a
+ * repository method in one of the parameter positions after the
+ * query parameters. For example,</p>
+ *
+ * <pre>
+ * List&lt;Product&gt; findByNameLike(String pattern, Limit limit, Timeout timeout);
+ *
+ * ...
+ * found = products.findByNameLike("%phone%", Limit.of(50), Timeout.ofMillis(500));
+ * </pre>
+ *
+ * <p>If the operation does not complete within the timeout, the Jakarta Data
+ * provider cancels the operation on the database, releases the resources that
+ * it holds for the operation, and the repository method raises
+ * {@link jakarta.data.exceptions.QueryTimeoutException QueryTimeoutException}.
+ * For a repository method that returns a {@link java.util.stream.Stream Stream},
+ * the timeout also bounds the time spent fetching additional results from the
+ * database while the stream is consumed.</p>
+ *
+ * <p>Independent of <code>Timeout</code>, if the thread that invokes a repository
+ * method is interrupted before or during the operation on the database, the provider
+ * cancels the operation if the database allows it, releases its resources, and the
+ * repository method raises
+ * {@link jakarta.data.exceptions.QueryCancelledException QueryCancelledException}
+ * with the interrupted status of the thread left set.</p>
+ *
+ * <p>A repository method will fail with a
+ * {@link jakarta.data.exceptions.DataException DataException}
+ * or a more specific subclass if</p>
+ * <ul>
+ * <li>multiple <code>Timeout</code> parameters are supplied to the
+ *     same method.</li>
+ * <li>the database is incapable of bounding the time of the operation.</li>
+ * </ul>
+ *
+ * @param duration maximum amount of time for the operation.
+ */
+public record Timeout(Duration duration) {
+
+    /**
+     * <p>Bounds the time of an operation. For more descriptive code, use:</p>
+     * <ul>
+     * <li>{@link #ofMillis(long) Timeout.ofMillis(millis)} for a timeout in milliseconds.</li>
+     * <li>{@link #ofSeconds(long) Timeout.ofSeconds(seconds)} for a timeout in seconds.</li>
+     * </ul>
+     *
+     * @param duration maximum amount of time for the operation.
+     * @throws NullPointerException when the duration is null.
+     * @throws IllegalArgumentException when the duration is negative or zero.
+     */
+    public Timeout {
+        Objects.requireNonNull(duration, "duration is required");
+        if (duration.isNegative() || duration.isZero())
+            throw new IllegalArgumentException("duration: " + duration);
+    }
+
+    // Override to provide method documentation:
+    /**
+     * <p>Maximum amount of time that a single invocation of the
+     * repository method can spend on its operation.</p>
+     *
+     * @return maximum amount of time for the operation; will never be {@literal null}.
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * <p>Create a timeout of the specified duration.</p>
+     *
+     * @param duration maximum amount of time for the operation.
+     * @return timeout that can be supplied to a repository method; will never be {@literal null}.
+     * @throws NullPointerException when the duration is null.
+     * @throws IllegalArgumentException when the duration is negative or zero.
+     */
+    public static Timeout of(Duration duration) {
+        return new Timeout(duration);
+    }
+
+    /**
+     * <p>Create a timeout of the specified number of milliseconds.</p>
+     *
+     * @param millis maximum number of milliseconds for the operation.
+     * @return timeout that can be supplied to a repository method; will never be {@literal null}.
+     * @throws IllegalArgumentException when millis is less than 1.
+     */
+    public static Timeout ofMillis(long millis) {
+        return new Timeout(Duration.ofMillis(millis));
+    }
+
+    /**
+     * <p>Create a timeout of the specified number of seconds.</p>
+     *
+     * @param seconds maximum number of seconds for the operation.
+     * @return timeout that can be supplied to a repository method; will never be {@literal null}.
+     * @throws IllegalArgumentException when seconds is less than 1.
+     */
+    public static Timeout ofSeconds(long seconds) {
+        return new Timeout(Duration.ofSeconds(seconds));
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import jakarta.data.repository.Sort;
+
+/**
+ * <p>Compiles sort criteria into a {@link Comparator} for entities of a class,
+ * for use by caches, in-memory Jakarta Data providers, and providers that
+ * merge results from multiple data stores. For example,</p>
+ *
+ * <pre>
+ * Comparator&lt;Product&gt; comparator = EntityComparators.of(Product.class, pagination.sorts());
+ * </pre>
+ *
+ * <p>Each entity property in the sort criteria is resolved once per entity class
+ * to the accessor method of a record component, to a <code>get</code> or <code>is</code>
+ * accessor method, or to a field, with the class searched in that order. The accessor
+ * is invoked through a {@link MethodHandle}, so that comparisons do not use
+ * reflection, and no classes are generated that would link the entity class to
+ * this class. Property names can be qualified with <code>.</code> to sort by
+ * a property of an embedded object, such as <code>address.zipCode</code>.</p>
+ *
+ * <p>Property values must be {@link Comparable}. Null values are ordered after
+ * non-null values for ascending sort criteria and before non-null values for
+ * descending sort criteria. For sort criteria that {@link Sort#ignoreCase() ignore case},
+ * {@link String} values are compared as by {@link String#CASE_INSENSITIVE_ORDER},
+ * which can differ from the collation of a database.</p>
+ *
+ * <p>Accessors are cached per entity class and are released along with it.
+ * Comparators are not cached, are inexpensive to obtain from cached accessors,
+ * are thread safe, and can be shared.</p>
+ */
+public final class EntityComparators {
+
+    /**
+     * Compiled property accessors per entity class, keyed by property name.
+     */
+    private static final ClassValue<Map<String, Function<Object, Object>>> ACCESSORS = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<Object, Object>> computeValue(Class<?> entityClass) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private EntityComparators() {
+    }
+
+    /**
+     * Obtains a comparator that orders entities according to the sort criteria,
+     * in order of precedence.
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param sorts       sort criteria.
+     * @return comparator; will never be {@literal null}.
+     * @throws IllegalArgumentException if an entity property is not found.
+     * @throws NullPointerException if the entity class or any of the sort criteria is null.
+     */
+    public static <T> Comparator<T> of(Class<T> entityClass, Sort... sorts) {
+        return of(entityClass, List.of(sorts));
+    }
+
+    /**
+     * Obtains a comparator that orders entities according to the sort criteria,
+     * in order of precedence.
+     *
+     * @param <T>         entity type.
+     * @param entityClass entity class.
+     * @param sorts       sort criteria.
+     * @return comparator; will never be {@literal null}.
+     * @throws IllegalArgumentException if an entity property is not found.
+     * @throws NullPointerException if the entity class or any of the sort criteria is null.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Comparator<T> of(Class<T> entityClass, List<Sort> sorts) {
+        Objects.requireNonNull(entityClass, "entityClass is required");
+        return (Comparator<T>) compile(entityClass, List.copyOf(sorts));
+    }
+
+    /**
+     * <p>Sorts a list of entities according to the sort criteria.</p>
+     *
+     * <p>Unlike sorting with the {@linkplain #of(Class, List) comparator},
+     * which obtains property values on every comparison, this method obtains each
+     * property value of each entity once, and for sort criteria that ignore case,
+     * folds the case of each {@link String} value once, rather than repeating
+     * this work on every comparison, at the cost of memory for the values.
+     * The order is the same as that of the comparator, and the sort is stable.</p>
+     *
+     * @param <T>         entity type.
+     * @param entities    list of entities to sort. The list must support {@link ListIterator#set}.
+     * @param entityClass entity class.
+     * @param sorts       sort criteria.
+     * @throws IllegalArgumentException if an entity property is not found.
+     * @throws NullPointerException if any parameter or any of the sort criteria is null.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    public static <T> void sort(List<T> entities, Class<T> entityClass, List<Sort> sorts) {
+        int keyCount = sorts.size();
+        Function<Object, Object>[] accessors = new Function[keyCount];
+        for (int k = 0; k < keyCount; k++) {
+            accessors[k] = accessor(entityClass, sorts.get(k).property());
+        }
+
+        // Each row holds the property values for sorting, followed by the entity.
+        Object[][] rows = new Object[entities.size()][];
+        int r = 0;
+        for (T entity : entities) {
+            Object[] row = new Object[keyCount + 1];
+            for (int k = 0; k < keyCount; k++) {
+                Object value = accessors[k].apply(entity);
+                row[k] = sorts.get(k).ignoreCase() && value instanceof String s ? fold(s) : value;
+            }
+            row[keyCount] = entity;
+            rows[r++] = row;
+        }
+
+        Comparator<Object[]> comparator = null;
+        for (int k = 0; k < keyCount; k++) {
+            int index = k;
+            Comparator<Object[]> next = Comparator.comparing(row -> row[index], order(sorts.get(k).isAscending()));
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        if (comparator != null) {
+            Arrays.sort(rows, comparator);
+        }
+
+        ListIterator<T> it = entities.listIterator();
+        for (Object[] row : rows) {
+            it.next();
+            it.set((T) row[keyCount]);
+        }
+    }
+
+    /**
+     * Compiles sort criteria into a comparator.
+     *
+     * @param entityClass entity class.
+     * @param sorts       sort criteria.
+     * @return comparator.
+     */
+    private static Comparator<Object> compile(Class<?> entityClass, List<Sort> sorts) {
+        Comparator<Object> comparator = null;
+        for (Sort sort : sorts) {
+            Comparator<Object> values = order(sort.isAscending());
+            if (sort.ignoreCase()) {
+                Comparator<Object> caseSensitive = values;
+                Comparator<Object> caseInsensitive = sort.isAscending()
+                        ? nullsLast(String.CASE_INSENSITIVE_ORDER)
+                        : nullsLast(String.CASE_INSENSITIVE_ORDER).reversed();
+                values = (a, b) -> a instanceof String || b instanceof String
+                        ? caseInsensitive.compare(a, b)
+                        : caseSensitive.compare(a, b);
+            }
+            Comparator<Object> next = Comparator.comparing(accessor(entityClass, sort.property()), values);
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator == null ? (a, b) -> 0 : comparator;
+    }
+
+    /**
+     * Orders values with nulls after non-null values for ascending order,
+     * and before non-null values for descending order.
+     *
+     * @param ascending whether ascending order is requested.
+     * @return comparator of property values.
+     */
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Comparator<Object> order(boolean ascending) {
+        Comparator<Object> natural = nullsLast((Comparator) Comparator.naturalOrder());
+        return ascending ? natural : natural.reversed();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static Comparator<Object> nullsLast(Comparator comparator) {
+        return Comparator.nullsLast(comparator);
+    }
+
+    /**
+     * Folds the case of a string such that comparing folded strings with
+     * {@link String#compareTo} is equivalent to {@link String#CASE_INSENSITIVE_ORDER}.
+     *
+     * @param s string value.
+     * @return folded string.
+     */
+    private static String fold(String s) {
+        StringBuilder folded = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            char f = Character.toLowerCase(Character.toUpperCase(c));
+            if (f != c && folded == null) {
+                folded = new StringBuilder(s.length()).append(s, 0, i);
+            }
+            if (folded != null) {
+                folded.append(f);
+            }
+        }
+        return folded == null ? s : folded.toString();
+    }
+
+    /**
+     * Obtains the compiled accessor for a property, which can be qualified with
+     * <code>.</code> to indicate a property of an embedded object.
+     *
+     * @param entityClass entity class.
+     * @param property    property name.
+     * @return function that obtains the property value from an entity.
+     * @throws IllegalArgumentException if the property is not found.
+     */
+    static Function<Object, Object> accessor(Class<?> entityClass, String property) {
+        Map<String, Function<Object, Object>> accessors = ACCESSORS.get(entityClass);
+        Function<Object, Object> accessor = accessors.get(property);
+        if (accessor == null) {
+            int dot = property.indexOf('.');
+            if (dot < 0) {
+                accessor = compile(entityClass, property);
+            } else {
+                Function<Object, Object> first = accessor(entityClass, property.substring(0, dot));
+                Class<?> embeddableClass = type(entityClass, property.substring(0, dot));
+                Function<Object, Object> rest = accessor(embeddableClass, property.substring(dot + 1));
+                accessor = entity -> {
+                    Object embeddable = first.apply(entity);
+                    return embeddable == null ? null : rest.apply(embeddable);
+                };
+            }
+            accessors.putIfAbsent(property, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * Compiles an accessor for a property that is not qualified.
+     *
+     * @param entityClass entity class.
+     * @param property    property name.
+     * @return function that obtains the property value from an entity.
+     * @throws IllegalArgumentException if the property is not found.
+     */
+    private static Function<Object, Object> compile(Class<?> entityClass, String property) {
+        Method method = findAccessorMethod(entityClass, property);
+        try {
+            MethodHandle getter;
+            if (method != null) {
+                method.trySetAccessible();
+                getter = MethodHandles.lookup().unreflect(method);
+            } else {
+                Field field = findField(entityClass, property);
+                field.trySetAccessible();
+                getter = MethodHandles.lookup().unreflectGetter(field);
+            }
+            MethodHandle mh = getter.asType(MethodType.methodType(Object.class, Object.class));
+            return entity -> {
+                try {
+                    return mh.invokeExact(entity);
+                } catch (RuntimeException | Error x) {
+                    throw x;
+                } catch (Throwable x) {
+                    throw new IllegalStateException(x);
+                }
+            };
+        } catch (IllegalAccessException x) {
+            throw new IllegalArgumentException("Property " + property + " of " + entityClass.getName() +
+                                               " is not accessible.", x);
+        }
+    }
+
+    /**
+     * Finds the record component accessor, or the get or is accessor method for a property.
+     *
+     * @param entityClass entity class.
+     * @param property    property name.
+     * @return the accessor method, or <code>null</code> if there is none.
+     */
+    private static Method findAccessorMethod(Class<?> entityClass, String property) {
+        if (entityClass.isRecord()) {
+            for (RecordComponent component : entityClass.getRecordComponents()) {
+                if (component.getName().equals(property)) {
+                    return component.getAccessor();
+                }
+            }
+        }
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (Class<?> c = entityClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (method.getParameterCount() == 0 && !Modifier.isStatic(method.getModifiers())) {
+                    String name = method.getName();
+                    if (name.equals("get" + suffix) && method.getReturnType() != void.class ||
+                        name.equals("is" + suffix) && method.getReturnType() == boolean.class) {
+                        return method;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Finds the field for a property.
+     *
+     * @param entityClass entity class.
+     * @param property    property name.
+     * @return the field.
+     * @throws IllegalArgumentException if the field is not found.
+     */
+    private static Field findField(Class<?> entityClass, String property) {
+        for (Class<?> c = entityClass; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (field.getName().equals(property) && !Modifier.isStatic(field.getModifiers())) {
+                    return field;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Property " + property + " is not found on " + entityClass.getName());
+    }
+
+    /**
+     * Determines the type of a property.
+     *
+     * @param entityClass entity class.
+     * @param property    property name, which is not qualified.
+     * @return the type of the property.
+     * @throws IllegalArgumentException if the property is not found.
+     */
+    private static Class<?> type(Class<?> entityClass, String property) {
+        Method method = findAccessorMethod(entityClass, property);
+        return method == null ? findField(entityClass, property).getType() : method.getReturnType();
+    }
+}
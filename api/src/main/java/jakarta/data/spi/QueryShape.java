@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+
+import jakarta.data.repository.Limit;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+
+/**
+ * <p>Identifies the shape of a query that is performed by a repository method,
+ * independent of the values that are supplied to it.</p>
+ *
+ * <p>The query that a Jakarta Data provider composes for a repository method
+ * depends on the method, on the dynamic {@link Sort} criteria, on the
+ * {@link Pageable.Mode mode} of pagination, and on whether a {@link Limit}
+ * is supplied. The query does not depend on the page number, the page size,
+ * the keyset values of a cursor, the bounds of a limit or the values of the query
+ * parameters, all of which can be supplied to the database as parameters.
+ * Two invocations with equal <code>QueryShape</code> can therefore share the
+ * same compiled query. For example,</p>
+ *
+ * <pre>
+ * QueryShape shape = QueryShape.of(method, pagination);
+ * CompiledQuery query = queries.computeIfAbsent(shape, this::compile);
+ * </pre>
+ *
+ * <p>Instances are immutable and safe to use as keys of a cache that is shared
+ * across threads. The static factory methods do not copy sort criteria that is
+ * already held in an unmodifiable list, such as {@link Pageable#sorts()},
+ * so that computing a <code>QueryShape</code> for each invocation of a
+ * repository method is inexpensive.</p>
+ *
+ * @param method  repository method that performs the query.
+ * @param sorts   dynamic sort criteria, in order of precedence.
+ * @param mode    mode of pagination, or <code>null</code> if no {@link Pageable} is supplied.
+ * @param limited whether a {@link Limit} is supplied.
+ */
+public record QueryShape(Method method, List<Sort> sorts, Pageable.Mode mode, boolean limited) {
+
+    /**
+     * <p>Identifies the shape of a query. For more descriptive code, use:</p>
+     * <ul>
+     * <li>{@link #of(Method, Pageable) QueryShape.of(method, pagination)} for a method with pagination.</li>
+     * <li>{@link #of(Method, Limit, Sort...) QueryShape.of(method, limit, sorts)} for a method without pagination.</li>
+     * </ul>
+     *
+     * @param method  repository method that performs the query.
+     * @param sorts   dynamic sort criteria, in order of precedence.
+     * @param mode    mode of pagination, or <code>null</code> if no {@link Pageable} is supplied.
+     * @param limited whether a {@link Limit} is supplied.
+     * @throws NullPointerException if the method or any of the sort criteria is null.
+     */
+    public QueryShape {
+        Objects.requireNonNull(method, "method is required");
+        sorts = sorts == null ? List.of() : List.copyOf(sorts);
+    }
+
+    // Override to provide method documentation:
+    /**
+     * Repository method that performs the query.
+     *
+     * @return the repository method; will never be {@literal null}.
+     */
+    public Method method() {
+        return method;
+    }
+
+    // Override to provide method documentation:
+    /**
+     * Dynamic sort criteria, from {@link Pageable#sorts()} or from
+     * {@link Sort} parameters of the repository method. Static sort criteria
+     * is not included because it is determined by the method.
+     *
+     * @return unmodifiable list of sort criteria; will never be {@literal null}.
+     */
+    public List<Sort> sorts() {
+        return sorts;
+    }
+
+    // Override to provide method documentation:
+    /**
+     * Mode of pagination.
+     *
+     * @return the mode of pagination, or <code>null</code> if no {@link Pageable} is supplied.
+     */
+    public Pageable.Mode mode() {
+        return mode;
+    }
+
+    // Override to provide method documentation:
+    /**
+     * Indicates whether a {@link Limit} is supplied.
+     * The bounds of the limit do not contribute to the shape of the query.
+     *
+     * @return whether a limit is supplied.
+     */
+    public boolean limited() {
+        return limited;
+    }
+
+    /**
+     * Create a {@link QueryShape} for a repository method that is invoked
+     * with the specified pagination. The sort criteria of the pagination
+     * is used without copying it.
+     *
+     * @param method     repository method that performs the query.
+     * @param pagination pagination that is supplied to the method, or <code>null</code> if none.
+     * @return a {@link QueryShape} instance. Never {@code null}.
+     * @throws NullPointerException when the method is null.
+     */
+    public static QueryShape of(Method method, Pageable pagination) {
+        return pagination == null
+                ? new QueryShape(method, List.of(), null, false)
+                : new QueryShape(method, pagination.sorts(), pagination.mode(), false);
+    }
+
+    /**
+     * Create a {@link QueryShape} for a repository method that is invoked
+     * without pagination.
+     *
+     * @param method repository method that performs the query.
+     * @param limit  limit that is supplied to the method, or <code>null</code> if none.
+     * @param sorts  sort criteria that is supplied to the method, if any.
+     * @return a {@link QueryShape} instance. Never {@code null}.
+     * @throws NullPointerException when the method or any of the sort criteria is null.
+     */
+    public static QueryShape of(Method method, Limit limit, Sort... sorts) {
+        return new QueryShape(method, sorts == null ? List.of() : List.of(sorts), null, limit != null);
+    }
+}
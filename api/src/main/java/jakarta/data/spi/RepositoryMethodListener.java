@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import jakarta.data.repository.Pageable;
+
+/**
+ * <p>Observes the execution of repository methods, for example to record
+ * latency histograms or result counts per repository method.</p>
+ *
+ * <p>A Jakarta Data provider notifies the listener after each invocation
+ * of a repository method completes, whether successfully or by raising an exception.
+ * The provider obtains the listener once, for example with {@link #load(ClassLoader)},
+ * and checks {@link #isEnabled()} before measuring the duration of an invocation,
+ * so that the {@link #none() no-op listener} that is used when no listener is
+ * registered adds no measurable cost. For example,</p>
+ *
+ * <pre>
+ * RepositoryMethodListener listener = RepositoryMethodListener.load(loader);
+ * ...
+ * long start = listener.isEnabled() ? System.nanoTime() : 0L;
+ * List&lt;Product&gt; results = query.getResultList();
+ * if (listener.isEnabled()) {
+ *     listener.completed(method, mode, results.size(), System.nanoTime() - start);
+ * }
+ * </pre>
+ *
+ * <p>Listeners are registered with {@link ServiceLoader}. Listener methods are
+ * invoked on the thread that invokes the repository method and must return
+ * promptly. A listener must not raise exceptions and must not invoke repository
+ * methods.</p>
+ */
+public interface RepositoryMethodListener {
+
+    /**
+     * Notifies the listener that a repository method completed successfully.
+     *
+     * @param method      repository method that was invoked.
+     * @param mode        mode of pagination, or <code>null</code> if no {@link Pageable} was supplied.
+     * @param resultCount number of entities that the method returned or that the
+     *                    method counted, deleted or updated, or <code>-1</code>
+     *                    if not known, such as when returning a {@link java.util.stream.Stream}.
+     * @param nanos       duration of the invocation in nanoseconds.
+     */
+    void completed(Method method, Pageable.Mode mode, long resultCount, long nanos);
+
+    /**
+     * <p>Notifies the listener that a repository method failed.</p>
+     *
+     * <p>The default implementation does nothing.</p>
+     *
+     * @param method  repository method that was invoked.
+     * @param mode    mode of pagination, or <code>null</code> if no {@link Pageable} was supplied.
+     * @param nanos   duration of the invocation in nanoseconds.
+     * @param failure exception that the repository method raises.
+     */
+    default void failed(Method method, Pageable.Mode mode, long nanos, Throwable failure) {
+    }
+
+    /**
+     * <p>Indicates whether the listener needs to be notified.
+     * A Jakarta Data provider must not measure or notify a listener
+     * that is not enabled.</p>
+     *
+     * <p>The default implementation returns <code>true</code>.</p>
+     *
+     * @return whether the listener needs to be notified.
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * Returns a listener that is never enabled and ignores all notifications.
+     *
+     * @return the no-op listener; will never be {@literal null}.
+     */
+    static RepositoryMethodListener none() {
+        return NoOpListener.INSTANCE;
+    }
+
+    /**
+     * <p>Returns a listener that notifies each of the specified listeners
+     * that is enabled, in the order listed.</p>
+     *
+     * @param listeners listeners to notify.
+     * @return the {@link #none() no-op listener} if none of the listeners is enabled,
+     *         the only enabled listener if there is one,
+     *         or otherwise a listener that notifies all enabled listeners.
+     *         Never {@literal null}.
+     * @throws NullPointerException if any of the listeners is null.
+     */
+    static RepositoryMethodListener of(RepositoryMethodListener... listeners) {
+        List<RepositoryMethodListener> enabled = new ArrayList<>(listeners.length);
+        for (RepositoryMethodListener listener : listeners) {
+            if (listener.isEnabled()) {
+                enabled.add(listener);
+            }
+        }
+        return switch (enabled.size()) {
+            case 0 -> none();
+            case 1 -> enabled.get(0);
+            default -> new CompositeListener(enabled.toArray(new RepositoryMethodListener[0]));
+        };
+    }
+
+    /**
+     * Loads the listeners that are registered with {@link ServiceLoader}
+     * and combines them as described by {@link #of(RepositoryMethodListener...)}.
+     *
+     * @param loader class loader with which to locate listeners.
+     * @return a listener that notifies all registered listeners,
+     *         or the {@link #none() no-op listener} if none are registered.
+     *         Never {@literal null}.
+     * @throws java.util.ServiceConfigurationError if a registered listener cannot be loaded.
+     */
+    static RepositoryMethodListener load(ClassLoader loader) {
+        return of(ServiceLoader.load(RepositoryMethodListener.class, loader)
+                .stream()
+                .map(ServiceLoader.Provider::get)
+                .toArray(RepositoryMethodListener[]::new));
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.data.repository.OrderBy;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+
+/**
+ * <p>Combines the static sort criteria of a repository method with the sort criteria
+ * that is supplied dynamically by {@link Sort} parameters or by a {@link Pageable}
+ * parameter with {@link Pageable#sorts()}, following the order of precedence that is
+ * defined by {@link OrderBy}: static sort criteria first, followed by dynamic sort criteria.</p>
+ *
+ * <p>Providers obtain an instance for a repository method once, for example,</p>
+ *
+ * <pre>
+ * SortCriteria orderBy = SortCriteria.of(method);
+ * ...
+ * List&lt;Sort&gt; sorts = orderBy.merge(pagination);
+ * </pre>
+ *
+ * <p>Sort criteria that cannot affect the order of results, because it follows
+ * sort criteria for the same entity property that is not {@link Sort#ignoreCase()
+ * case insensitive}, is removed from the merged list. For example, a dynamic
+ * <code>Sort.desc("id")</code> is removed after <code>&#64;OrderBy("id")</code>.</p>
+ *
+ * <p>The most recently merged list is cached per instance, keyed by a copy of
+ * the dynamic sort criteria, such that repeated invocations with equal dynamic
+ * sort criteria, including with the same {@link Pageable} or with a {@link Pageable}
+ * that is obtained from it by {@link Pageable#next()},
+ * {@link Pageable#afterKeysetCursor(Pageable.Cursor)}, or another method that
+ * requests a different page, return the same list without merging again.</p>
+ *
+ * <p>Instances are thread safe.</p>
+ */
+public final class SortCriteria {
+
+    /**
+     * Instances for repository methods with <code>OrderBy</code> annotations, per repository interface.
+     */
+    private static final ClassValue<Map<Method, SortCriteria>> METHODS = new ClassValue<>() {
+        @Override
+        protected Map<Method, SortCriteria> computeValue(Class<?> repositoryInterface) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * An unmodifiable copy of the most recent dynamic sort criteria and the merged list.
+     */
+    private record Merged(List<Sort> dynamicSorts, List<Sort> sorts) {
+    }
+
+    private final List<Sort> staticSorts;
+
+    private volatile Merged last;
+
+    private SortCriteria(List<Sort> staticSorts) {
+        this.staticSorts = merge(staticSorts, List.of());
+        this.last = new Merged(List.of(), this.staticSorts);
+    }
+
+    /**
+     * <p>Obtains the sort criteria for a repository method from its {@link OrderBy} annotations.
+     * The same instance is returned for each invocation with the same method.</p>
+     *
+     * @param method repository method.
+     * @return sort criteria for the method; will never be {@literal null}.
+     * @throws NullPointerException if the method is null.
+     */
+    public static SortCriteria of(Method method) {
+        Map<Method, SortCriteria> methods = METHODS.get(method.getDeclaringClass());
+        return methods.computeIfAbsent(method, m -> {
+            OrderBy[] annos = m.getAnnotationsByType(OrderBy.class);
+            List<Sort> sorts = new ArrayList<>(annos.length);
+            for (OrderBy anno : annos) {
+                sorts.add(new Sort(anno.value(), !anno.descending(), anno.ignoreCase()));
+            }
+            return new SortCriteria(sorts);
+        });
+    }
+
+    /**
+     * <p>Creates sort criteria from static sort criteria that the provider obtains
+     * from a source other than {@link OrderBy} annotations, such as the <code>OrderBy</code>
+     * keyword or the <code>ORDER BY</code> clause of a {@link jakarta.data.repository.Query Query}.</p>
+     *
+     * @param staticSorts static sort criteria, in order of precedence.
+     * @return sort criteria; will never be {@literal null}.
+     * @throws NullPointerException if the list or any of the sort criteria is null.
+     */
+    public static SortCriteria of(List<Sort> staticSorts) {
+        return new SortCriteria(staticSorts);
+    }
+
+    /**
+     * Returns the static sort criteria, without redundant sort criteria.
+     *
+     * @return static sort criteria; will never be {@literal null}.
+     */
+    public List<Sort> staticSorts() {
+        return staticSorts;
+    }
+
+    /**
+     * Merges the static sort criteria with the sort criteria of a {@link Pageable}.
+     *
+     * @param pagination pagination, or <code>null</code> if none is supplied.
+     * @return unmodifiable list of sort criteria in order of precedence; will never be {@literal null}.
+     * @throws NullPointerException if any of the dynamic sort criteria is null.
+     */
+    public List<Sort> merge(Pageable pagination) {
+        return merge(pagination == null ? List.of() : pagination.sorts());
+    }
+
+    /**
+     * <p>Merges the static sort criteria with dynamic sort criteria.</p>
+     *
+     * <p>If the dynamic sort criteria are equal to those of the most recent invocation,
+     * the list that was merged for that invocation is returned without merging again.
+     * The dynamic sort criteria are copied for the comparison, so a caller can modify
+     * and supply the same list again and obtain a list that is merged from its new
+     * contents.</p>
+     *
+     * @param dynamicSorts dynamic sort criteria, which can be <code>null</code> or empty if none is supplied.
+     * @return unmodifiable list of sort criteria in order of precedence; will never be {@literal null}.
+     * @throws NullPointerException if any of the dynamic sort criteria is null.
+     */
+    public List<Sort> merge(List<Sort> dynamicSorts) {
+        if (dynamicSorts == null || dynamicSorts.isEmpty()) {
+            return staticSorts;
+        }
+
+        Merged merged = last;
+        if (merged.dynamicSorts != dynamicSorts && !merged.dynamicSorts.equals(dynamicSorts)) {
+            List<Sort> copy = List.copyOf(dynamicSorts);
+            merged = new Merged(copy, merge(staticSorts, copy));
+            last = merged;
+        }
+        return merged.sorts;
+    }
+
+    /**
+     * Merges the static sort criteria with dynamic sort criteria that is supplied as
+     * {@link Sort} parameters.
+     *
+     * @param dynamicSorts dynamic sort criteria, which can be <code>null</code> or empty if none is supplied.
+     * @return unmodifiable list of sort criteria in order of precedence; will never be {@literal null}.
+     * @throws NullPointerException if any of the dynamic sort criteria is null.
+     */
+    public List<Sort> merge(Sort... dynamicSorts) {
+        return dynamicSorts == null || dynamicSorts.length == 0
+                ? staticSorts
+                : merge(staticSorts, List.of(dynamicSorts));
+    }
+
+    /**
+     * Concatenates lists of sort criteria, omitting sort criteria for properties that
+     * are already sorted case sensitively.
+     *
+     * @param first  sort criteria with higher precedence.
+     * @param second sort criteria with lower precedence.
+     * @return unmodifiable list of sort criteria.
+     */
+    private static List<Sort> merge(List<Sort> first, List<Sort> second) {
+        List<Sort> sorts = new ArrayList<>(first.size() + second.size());
+        for (List<Sort> list : List.of(first, second)) {
+            for (Sort sort : list) {
+                Objects.requireNonNull(sort, "sort is required");
+                if (!isRedundant(sort, sorts)) {
+                    sorts.add(sort);
+                }
+            }
+        }
+        return List.copyOf(sorts);
+    }
+
+    /**
+     * Determines whether sort criteria follows sort criteria for the same property
+     * that already fully orders by the property.
+     *
+     * @param sort  sort criteria to check.
+     * @param sorts sort criteria with higher precedence.
+     * @return true if the sort criteria cannot affect the order of results.
+     */
+    private static boolean isRedundant(Sort sort, List<Sort> sorts) {
+        for (Sort s : sorts) {
+            if (s.property().equals(sort.property()) && (!s.ignoreCase() || sort.ignoreCase())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "SortCriteria" + staticSorts;
+    }
+}
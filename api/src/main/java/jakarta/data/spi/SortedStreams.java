@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import jakarta.data.repository.Limit;
+import jakarta.data.repository.Streamable;
+
+/**
+ * <p>Merges results that are already sorted, such as results from multiple
+ * repositories, data stores, or {@linkplain jakarta.data.repository.Sharded shards}
+ * that are ordered by the same sort criteria, into a single sorted stream,
+ * without collecting and sorting the results again. For example,</p>
+ *
+ * <pre>
+ * Sort[] sorts = { Sort.desc("price"), Sort.asc("id") };
+ * Stream&lt;Product&gt; top10 = SortedStreams.merge(EntityComparators.of(Product.class, sorts),
+ *                                              Limit.of(10),
+ *                                              List.of(east.findByNameLike(pattern, Limit.of(10), sorts),
+ *                                                      west.findByNameLike(pattern, Limit.of(10), sorts)));
+ * </pre>
+ *
+ * <p>The merge is lazy. No results are read from the sources until the merged
+ * stream is consumed, after which the merge holds the next result from each
+ * source in a heap and reads a further result only from the source of each
+ * result that it returns. When a {@link Limit} is supplied, the merge stops
+ * reading from the sources after the last result within the limit.</p>
+ *
+ * <p>Results that compare as equal are returned in the order of the sources
+ * in which they are listed. Closing the merged stream closes the source streams.</p>
+ */
+public final class SortedStreams {
+
+    private SortedStreams() {
+    }
+
+    /**
+     * Merges streams of results, each of which is sorted according to the comparator.
+     *
+     * @param <T>        type of result.
+     * @param comparator comparator that matches the order of results from each source.
+     * @param sources    streams of results to merge.
+     * @return sorted stream of results from all sources; will never be {@literal null}.
+     * @throws NullPointerException if the comparator, sources, or any of the sources is null.
+     */
+    public static <T> Stream<T> merge(Comparator<? super T> comparator,
+                                      List<? extends Stream<? extends T>> sources) {
+        return merge(comparator, null, sources);
+    }
+
+    /**
+     * Merges streams of results, each of which is sorted according to the comparator,
+     * limiting the merged results to a maximum amount or to within a positional range.
+     *
+     * @param <T>        type of result.
+     * @param comparator comparator that matches the order of results from each source.
+     * @param limit      limit to apply to the merged results, or <code>null</code> for no limit.
+     * @param sources    streams of results to merge.
+     * @return sorted stream of results from all sources; will never be {@literal null}.
+     * @throws NullPointerException if the comparator, sources, or any of the sources is null.
+     */
+    public static <T> Stream<T> merge(Comparator<? super T> comparator,
+                                      Limit limit,
+                                      List<? extends Stream<? extends T>> sources) {
+        Objects.requireNonNull(comparator, "comparator is required");
+        List<Stream<? extends T>> streams = List.copyOf(sources);
+        return StreamSupport.stream(new Merge<T>(comparator, limit, streams), false)
+                .onClose(() -> close(streams));
+    }
+
+    /**
+     * Merges results from {@link Streamable} sources, each of which is sorted according to the comparator,
+     * limiting the merged results to a maximum amount or to within a positional range.
+     *
+     * @param <T>        type of result.
+     * @param comparator comparator that matches the order of results from each source.
+     * @param limit      limit to apply to the merged results, or <code>null</code> for no limit.
+     * @param sources    results to merge.
+     * @return sorted stream of results from all sources; will never be {@literal null}.
+     * @throws NullPointerException if the comparator, sources, or any of the sources is null.
+     */
+    @SafeVarargs
+    public static <T> Stream<T> merge(Comparator<? super T> comparator,
+                                      Limit limit,
+                                      Streamable<? extends T>... sources) {
+        List<Stream<? extends T>> streams = new ArrayList<>(sources.length);
+        for (Streamable<? extends T> source : sources) {
+            streams.add(source.stream());
+        }
+        return merge(comparator, limit, streams);
+    }
+
+    /**
+     * Closes all of the streams, even if closing one of them fails.
+     *
+     * @param streams streams to close.
+     */
+    private static void close(List<? extends Stream<?>> streams) {
+        RuntimeException failure = null;
+        for (Stream<?> stream : streams) {
+            try {
+                stream.close();
+            } catch (RuntimeException x) {
+                if (failure == null) {
+                    failure = x;
+                } else {
+                    failure.addSuppressed(x);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Next result from a source, ordered in the heap by the result and then by source.
+     *
+     * @param <T> type of result.
+     */
+    private static final class Head<T> {
+        private final Iterator<? extends T> source;
+        private final int sourceIndex;
+        private T result;
+
+        private Head(Iterator<? extends T> source, int sourceIndex) {
+            this.source = source;
+            this.sourceIndex = sourceIndex;
+        }
+    }
+
+    /**
+     * Spliterator that merges the sources using a heap.
+     *
+     * @param <T> type of result.
+     */
+    private static final class Merge<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Comparator<? super T> comparator;
+        private final List<Stream<? extends T>> sources;
+        private PriorityQueue<Head<T>> heap;
+        private long skip;
+        private long remaining;
+
+        private Merge(Comparator<? super T> comparator, Limit limit, List<Stream<? extends T>> sources) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED);
+            this.comparator = comparator;
+            this.sources = sources;
+            this.skip = limit == null ? 0 : limit.startAt() - 1;
+            this.remaining = limit == null ? Long.MAX_VALUE : limit.maxResults();
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            if (remaining <= 0) {
+                return false;
+            }
+
+            if (heap == null) {
+                Comparator<Head<T>> byResult = (h1, h2) -> comparator.compare(h1.result, h2.result);
+                heap = new PriorityQueue<>(Math.max(1, sources.size()),
+                        byResult.thenComparingInt(h -> h.sourceIndex));
+                for (int i = 0; i < sources.size(); i++) {
+                    Head<T> head = new Head<>(sources.get(i).iterator(), i);
+                    if (head.source.hasNext()) {
+                        head.result = head.source.next();
+                        heap.add(head);
+                    }
+                }
+            }
+
+            for (;;) {
+                Head<T> head = heap.poll();
+                if (head == null) {
+                    remaining = 0;
+                    return false;
+                }
+                T result = head.result;
+                if ((skip > 0 || remaining > 1) && head.source.hasNext()) {
+                    head.result = head.source.next();
+                    heap.add(head);
+                } else {
+                    head.result = null;
+                }
+
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    remaining--;
+                    action.accept(result);
+                    return true;
+                }
+            }
+        }
+    }
+}
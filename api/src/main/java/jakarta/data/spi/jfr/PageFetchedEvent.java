@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import jakarta.data.repository.Pageable;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for a repository method that requests a page of results
+ * with a {@link Pageable}. The duration of the event spans running the
+ * query and obtaining the page, including the total count if one is computed.
+ */
+@Name("jakarta.data.PageFetched")
+@Label("Page Fetched")
+@Description("Page of results that was fetched by a repository method")
+public class PageFetchedEvent extends RepositoryEvent {
+
+    @Label("Sorts")
+    @Description("Sort criteria of the Pageable")
+    private String sorts;
+
+    @Label("Mode")
+    @Description("Mode of pagination")
+    private String mode;
+
+    @Label("Page")
+    @Description("Requested page number")
+    private long page;
+
+    @Label("Page Size")
+    @Description("Requested maximum page size")
+    private int pageSize;
+
+    @Label("Result Count")
+    @Description("Number of entities on the page")
+    private long resultCount;
+
+    /**
+     * Returns the sort criteria of the pagination.
+     *
+     * @return the formatted sort criteria, or <code>null</code> if none.
+     */
+    public String getSorts() {
+        return sorts;
+    }
+
+    /**
+     * Returns the mode of pagination.
+     *
+     * @return name of the {@link Pageable.Mode}, or <code>null</code> if not set.
+     */
+    public String getMode() {
+        return mode;
+    }
+
+    /**
+     * Returns the requested page number.
+     *
+     * @return the page number.
+     */
+    public long getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the requested maximum page size.
+     *
+     * @return the page size.
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Records the sort criteria, mode, page number and page size of the pagination.
+     *
+     * @param pagination pagination that was supplied to the repository method.
+     */
+    public void setPagination(Pageable pagination) {
+        sorts = summarize(pagination.sorts());
+        mode = summarize(pagination.mode());
+        page = pagination.page();
+        pageSize = pagination.size();
+    }
+
+    /**
+     * Returns the number of entities on the page.
+     *
+     * @return the result count.
+     */
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * Records the number of entities on the page.
+     *
+     * @param resultCount the result count.
+     */
+    public void setResultCount(long resultCount) {
+        this.resultCount = resultCount;
+    }
+}
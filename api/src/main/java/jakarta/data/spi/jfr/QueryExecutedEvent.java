@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import java.util.List;
+
+import jakarta.data.repository.Sort;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>Emitted for a repository method that runs a query without pagination,
+ * including <code>count</code>, <code>exists</code>, <code>delete</code> and
+ * <code>update</code> operations. The duration of the event spans running the
+ * query and obtaining its results.</p>
+ *
+ * <p>Repository methods that request a page of results emit
+ * {@link PageFetchedEvent} instead, and repository methods that return
+ * a {@link java.util.stream.Stream Stream} emit {@link StreamEvent}.</p>
+ */
+@Name("jakarta.data.QueryExecuted")
+@Label("Query Executed")
+@Description("Query that was run by a repository method")
+public class QueryExecutedEvent extends RepositoryEvent {
+
+    @Label("Sorts")
+    @Description("Dynamic sort criteria")
+    private String sorts;
+
+    @Label("Limited")
+    @Description("Whether a Limit was supplied")
+    private boolean limited;
+
+    @Label("Result Count")
+    @Description("Number of entities that were returned, counted, deleted or updated")
+    private long resultCount;
+
+    /**
+     * Returns the dynamic sort criteria.
+     *
+     * @return the formatted sort criteria, or <code>null</code> if none.
+     */
+    public String getSorts() {
+        return sorts;
+    }
+
+    /**
+     * Records the dynamic sort criteria.
+     *
+     * @param sorts sort criteria.
+     */
+    public void setSorts(List<Sort> sorts) {
+        this.sorts = summarize(sorts);
+    }
+
+    /**
+     * Indicates whether a {@link jakarta.data.repository.Limit Limit} was supplied.
+     *
+     * @return whether a limit was supplied.
+     */
+    public boolean isLimited() {
+        return limited;
+    }
+
+    /**
+     * Records whether a {@link jakarta.data.repository.Limit Limit} was supplied.
+     *
+     * @param limited whether a limit was supplied.
+     */
+    public void setLimited(boolean limited) {
+        this.limited = limited;
+    }
+
+    /**
+     * Returns the number of entities that were returned, counted, deleted or updated.
+     *
+     * @return the result count.
+     */
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * Records the number of entities that were returned, counted, deleted or updated.
+     *
+     * @param resultCount the result count.
+     */
+    public void setResultCount(long resultCount) {
+        this.resultCount = resultCount;
+    }
+}
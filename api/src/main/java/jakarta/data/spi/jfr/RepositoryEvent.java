@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import java.lang.reflect.Method;
+import java.util.List;
+
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Fields that are common to the events that Jakarta Data providers emit
+ * for repository methods.
+ */
+@Category({ "Jakarta EE", "Jakarta Data" })
+@StackTrace(false)
+public abstract class RepositoryEvent extends Event {
+
+    // Flight Recorder only records inherited fields that are visible to the
+    // event class, which is why these fields are protected rather than private.
+
+    /**
+     * Repository interface.
+     */
+    @Label("Repository")
+    @Description("Repository interface")
+    protected Class<?> repository;
+
+    /**
+     * Name of the repository method.
+     */
+    @Label("Method")
+    @Description("Name of the repository method")
+    protected String method;
+
+    /**
+     * Entity class.
+     */
+    @Label("Entity")
+    @Description("Entity class")
+    protected Class<?> entity;
+
+    /**
+     * Constructor for subclasses.
+     */
+    protected RepositoryEvent() {
+    }
+
+    /**
+     * Returns the repository interface.
+     *
+     * @return the repository interface, or <code>null</code> if not set.
+     */
+    public Class<?> getRepository() {
+        return repository;
+    }
+
+    /**
+     * Returns the name of the repository method.
+     *
+     * @return the name of the repository method, or <code>null</code> if not set.
+     */
+    public String getMethod() {
+        return method;
+    }
+
+    /**
+     * Returns the entity class.
+     *
+     * @return the entity class, or <code>null</code> if not set.
+     */
+    public Class<?> getEntity() {
+        return entity;
+    }
+
+    /**
+     * Identifies the repository method that the event is about.
+     *
+     * @param repository repository interface. The method might be inherited
+     *                   by this interface rather than declared by it.
+     * @param method     repository method.
+     * @param entity     entity class.
+     */
+    public void setMethod(Class<?> repository, Method method, Class<?> entity) {
+        this.repository = repository;
+        this.method = method == null ? null : method.getName();
+        this.entity = entity;
+    }
+
+    /**
+     * Formats sort criteria for an event field, for example
+     * <code>lastName ASC, firstName IGNORE CASE ASC, id DESC</code>.
+     *
+     * @param sorts sort criteria, or <code>null</code>.
+     * @return formatted sort criteria; <code>null</code> if there is no sort criteria.
+     */
+    static String summarize(List<Sort> sorts) {
+        if (sorts == null || sorts.isEmpty()) {
+            return null;
+        }
+        StringBuilder s = new StringBuilder(sorts.size() * 20);
+        for (Sort sort : sorts) {
+            if (s.length() > 0) {
+                s.append(", ");
+            }
+            s.append(sort.property());
+            if (sort.ignoreCase()) {
+                s.append(" IGNORE CASE");
+            }
+            s.append(sort.isAscending() ? " ASC" : " DESC");
+        }
+        return s.toString();
+    }
+
+    /**
+     * Formats a pagination mode for an event field.
+     *
+     * @param mode pagination mode, or <code>null</code>.
+     * @return name of the mode; <code>null</code> if there is no pagination.
+     */
+    static String summarize(Pageable.Mode mode) {
+        return mode == null ? null : mode.name();
+    }
+}
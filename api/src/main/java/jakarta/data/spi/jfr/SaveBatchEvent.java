@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Emitted for each batch of entities that a repository <code>save</code>
+ * or <code>saveAll</code> method writes to the data store. A provider that
+ * writes all of the entities at once emits a single event.
+ */
+@Name("jakarta.data.SaveBatch")
+@Label("Save Batch")
+@Description("Batch of entities that was saved by a repository method")
+public class SaveBatchEvent extends RepositoryEvent {
+
+    @Label("Entity Count")
+    @Description("Number of entities in the batch")
+    private long entityCount;
+
+    /**
+     * Returns the number of entities in the batch.
+     *
+     * @return the entity count.
+     */
+    public long getEntityCount() {
+        return entityCount;
+    }
+
+    /**
+     * Records the number of entities in the batch.
+     *
+     * @param entityCount the entity count.
+     */
+    public void setEntityCount(long entityCount) {
+        this.entityCount = entityCount;
+    }
+}
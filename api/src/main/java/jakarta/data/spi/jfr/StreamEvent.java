@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import java.util.List;
+
+import jakarta.data.repository.Sort;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * <p>Emitted for a {@link java.util.stream.Stream Stream} that is returned
+ * by a repository method. The event begins when the stream is opened by the
+ * repository method and is committed when the stream is closed, so its duration
+ * is the time for which the stream held resources of the data store.</p>
+ *
+ * <p>A provider typically commits the event from a
+ * {@link java.util.stream.BaseStream#onClose(Runnable) close handler}
+ * of the stream. No event is recorded for a stream that is never closed.</p>
+ */
+@Name("jakarta.data.Stream")
+@Label("Stream")
+@Description("Stream of results from a repository method, from when it was opened until it was closed")
+public class StreamEvent extends RepositoryEvent {
+
+    @Label("Sorts")
+    @Description("Dynamic sort criteria")
+    private String sorts;
+
+    @Label("Element Count")
+    @Description("Number of entities that were read from the stream before it was closed")
+    private long elementCount;
+
+    /**
+     * Returns the dynamic sort criteria.
+     *
+     * @return the formatted sort criteria, or <code>null</code> if none.
+     */
+    public String getSorts() {
+        return sorts;
+    }
+
+    /**
+     * Records the dynamic sort criteria.
+     *
+     * @param sorts sort criteria.
+     */
+    public void setSorts(List<Sort> sorts) {
+        this.sorts = summarize(sorts);
+    }
+
+    /**
+     * Returns the number of entities that were read from the stream.
+     *
+     * @return the element count.
+     */
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    /**
+     * Records the number of entities that were read from the stream.
+     *
+     * @param elementCount the element count.
+     */
+    public void setElementCount(long elementCount) {
+        this.elementCount = elementCount;
+    }
+}
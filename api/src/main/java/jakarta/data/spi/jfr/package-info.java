@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ */
+
+/**
+ * <p>Java Flight Recorder events that Jakarta Data providers emit when
+ * running repository methods, so that recordings attribute time and result
+ * counts to individual repository methods.</p>
+ *
+ * <p>A provider creates an event before performing the operation, invokes
+ * {@link jdk.jfr.Event#begin() begin}, and after the operation completes,
+ * populates and {@link jdk.jfr.Event#commit() commits} the event
+ * only if {@link jdk.jfr.Event#shouldCommit() shouldCommit} returns true.
+ * For example,</p>
+ *
+ * <pre>
+ * QueryExecutedEvent event = new QueryExecutedEvent();
+ * event.begin();
+ * List&lt;Product&gt; results = query.getResultList();
+ * if (event.shouldCommit()) {
+ *     event.setMethod(repositoryInterface, method, Product.class);
+ *     event.setSorts(sorts);
+ *     event.setResultCount(results.size());
+ *     event.commit();
+ * }
+ * </pre>
+ *
+ * <p>The events are disabled unless enabled by a recording, in which case
+ * creating and committing them costs no more than allocating the event.
+ * The events do not record stack traces. This package requires the
+ * <code>jdk.jfr</code> module, which is an optional dependency of the
+ * Jakarta Data API.</p>
+ */
+package jakarta.data.spi.jfr;
@@ -16,6 +16,9 @@
  * SPDX-License-Identifier: Apache-2.0
  */
 
+import jakarta.data.repository.Chunk;
+import jakarta.data.repository.Consistency;
+import jakarta.data.repository.ConsistencyToken;
 import jakarta.data.repository.CrudRepository;
 import jakarta.data.repository.DataRepository;
 import jakarta.data.repository.Limit;
@@ -24,6 +27,7 @@ import jakarta.data.repository.Pageable;
 import jakarta.data.repository.Query;
 import jakarta.data.repository.Repository;
 import jakarta.data.repository.Sort;
+import jakarta.data.repository.Timeout;
 
 /**
  * <p>Jakarta Data standardizes a programming model where data is represented by simple Java classes
@@ -223,6 +227,16 @@ import jakarta.data.repository.Sort;
  * <td>Specifies descending sort order for <code>findBy</code> queries</td>
  * <td><code>findByAuthorLastNameOrderByYearPublishedDesc(surname)</code></td></tr>
  *
+ * <tr style="vertical-align: top"><td><code>Distinct</code></td>
+ * <td>find...By, count...By</td>
+ * <td>Requires that each entity be included at most once in the results,
+ * or for <code>count...By</code>, be counted at most once, even if it satisfies
+ * the conditions in more than one way, such as by having multiple elements
+ * of a collection attribute that match. The Jakarta Data provider
+ * eliminates duplicates in the database rather than after reading results.</td>
+ * <td><code>findDistinctByTagsInOrderByName(tags)</code>
+ * <br><code>countDistinctByRecipientsContainsOrSenderLike(email, pattern)</code></td></tr>
+ *
  * <tr style="vertical-align: top"><td><code>Empty</code></td>
  * <td>collections</td>
  * <td>Requires that the entity's attribute is an empty collection or has a null value.</td>
@@ -244,9 +258,14 @@ import jakarta.data.repository.Sort;
  * <td>find...By</td>
  * <td>Limits the amount of results that can be returned by the query
  * to the number that is specified after <code>First</code>,
- * or absent that to a single result.</td>
+ * or absent that to the maximum of a {@link Limit} parameter,
+ * or absent both to a single result. The Jakarta Data provider
+ * limits results in the database rather than after reading results.
+ * Can be combined with <code>Distinct</code>.</td>
  * <td><code>findFirst25ByYearHiredOrderBySalaryDesc(int yearHired)</code>
- * <br><code>findFirstByYearHiredOrderBySalaryDesc(int yearHired)</code></td></tr>
+ * <br><code>findFirstByYearHiredOrderBySalaryDesc(int yearHired)</code>
+ * <br><code>findFirstByYearHiredOrderBySalaryDesc(int yearHired, Limit n)</code>
+ * <br><code>findFirst10DistinctByTagsIn(tags)</code></td></tr>
  *
  * <tr style="vertical-align: top"><td><code>GreaterThan</code></td>
  * <td>numeric, strings, time</td>
@@ -268,7 +287,8 @@ import jakarta.data.repository.Sort;
  *
  * <tr style="vertical-align: top"><td><code>In</code></td>
  * <td>all attribute types</td>
- * <td>Requires that the entity's attribute value be within the list that is the parameter value.</td>
+ * <td>Requires that the entity's attribute value be within the list that is the parameter value.
+ * The parameter can be a collection or array of any size, including very large ones.</td>
  * <td><code>findByNameIn(names)</code></td></tr>
  *
  * <tr style="vertical-align: top"><td><code>LessThan</code></td>
@@ -338,9 +358,6 @@ import jakarta.data.repository.Sort;
  * {@code WithQuarter}, {@code WithSecond}, {@code WithWeek}, {@code WithYear}.
  * </p>
  * <p>
- * Reserved for find...By and count...By: {@code Distinct}.
- * </p>
- * <p>
  * Reserved for updates: {@code Add}, {@code Divide}, {@code Multiply}, {@code Set}, {@code Subtract}.
  * </p>
  *
@@ -384,6 +401,11 @@ import jakarta.data.repository.Sort;
  * <br><code>Number</code></td>
  * <td>Jakarta Persistence providers limit the maximum to <code>Integer.MAX_VALUE</code></td></tr>
  *
+ * <tr style="vertical-align: top"><td><code>deleteBy...</code>,
+ * <br><code>updateBy...</code></td>
+ * <td><code>LongStream</code></td>
+ * <td>For use with {@link jakarta.data.repository.Chunk Chunk}, with the number of entities affected by each chunk</td></tr>
+ *
  * <tr style="vertical-align: top"><td><code>existsBy...</code></td>
  * <td><code>boolean</code>, <code>Boolean</code></td>
  * <td></td></tr>
@@ -419,7 +441,8 @@ import jakarta.data.repository.Sort;
  *
  * <tr style="vertical-align: top"><td><code>save(E)</code></td>
  * <td><code>E</code>,
- * <br><code>void</code>, <code>Void</code></td>
+ * <br><code>void</code>, <code>Void</code>,
+ * <br><code>ConsistencyToken</code></td>
  * <td>For saving a single entity.</td></tr>
  *
  * <tr style="vertical-align: top"><td><code>save(E...)</code>,
@@ -430,7 +453,8 @@ import jakarta.data.repository.Sort;
  * <br><code>Iterable&lt;E&gt;</code>,
  * <br><code>Stream&lt;E&gt;</code>,
  * <br><code>Collection&lt;E&gt;</code>
- * <br><code>Collection</code> subtypes</td>
+ * <br><code>Collection</code> subtypes,
+ * <br><code>ConsistencyToken</code></td>
  * <td>For saving multiple entities.
  * <br>Collection subtypes must have a public default constructor
  * and support <code>addAll</code> or <code>add</code></td></tr>
@@ -465,6 +489,17 @@ import jakarta.data.repository.Sort;
  * second50 = products.highlyDiscounted(0.30, Limit.range(51, 100));
  * </pre>
  *
+ * <p>A <code>Limit</code> parameter can be combined with the <code>First</code>
+ * keyword when no number is specified after <code>First</code>, to choose the
+ * number of results at run time. For example,</p>
+ *
+ * <pre>
+ * Employee[] findFirstByYearHiredOrderBySalaryDesc(int yearHired, Limit max);
+ *
+ * ...
+ * highestPaid = employees.findFirstByYearHiredOrderBySalaryDesc(2023, Limit.of(n));
+ * </pre>
+ *
  * <h3>Pagination</h3>
  *
  * <p>You can request that results be paginated by adding a {@link Pageable}
@@ -509,6 +544,74 @@ import jakarta.data.repository.Sort;
  *                                 Sort.asc("name"));
  * </pre>
  *
+ * <h3>Chunks</h3>
+ *
+ * <p>You can request that a <code>deleteBy</code> or <code>updateBy</code> method
+ * delete or update entities in a series of smaller operations by adding a
+ * {@link Chunk} parameter. Chunks are processed in order of entity id.
+ * When the method returns <code>LongStream</code>, each chunk runs as the stream
+ * is consumed, and the stream supplies the number of entities affected by each chunk.
+ * For example,</p>
+ *
+ * <pre>
+ * LongStream deleteByExpiresAtLessThan(Instant cutoff, Chunk chunk);
+ *
+ * ...
+ * try (LongStream counts = sessions.deleteByExpiresAtLessThan(now, Chunk.of(10000))) {
+ *     counts.forEach(count -&gt; progress.add(count));
+ * }
+ * </pre>
+ *
+ * <h3>Timeouts</h3>
+ *
+ * <p>You can bound the amount of time that a single invocation of a repository
+ * method spends on its operation by adding a {@link Timeout} parameter.
+ * If the operation does not complete in time, the Jakarta Data provider cancels it
+ * and the method raises {@link jakarta.data.exceptions.QueryTimeoutException}.
+ * Interrupting the thread that invokes a repository method similarly cancels the
+ * operation, raising {@link jakarta.data.exceptions.QueryCancelledException}.
+ * For example,</p>
+ *
+ * <pre>
+ * Product[] findByNameLike(String pattern, Limit max, Timeout timeout);
+ *
+ * ...
+ * found = products.findByNameLike(namePattern, Limit.of(25), Timeout.ofSeconds(2));
+ * </pre>
+ *
+ * <h3>Read Consistency</h3>
+ *
+ * <p>You can choose how consistent a read operation must be with prior writes,
+ * which for eventually consistent data stores trades latency against observing
+ * the latest data, by adding a {@link Consistency} parameter or by annotating the
+ * repository method or interface with {@link jakarta.data.repository.ReadConsistency ReadConsistency}.
+ * For example,</p>
+ *
+ * <pre>
+ * Optional&lt;Product&gt; findBySku(String sku, Consistency consistency);
+ *
+ * ...
+ * found = products.findBySku(sku, Consistency.STRONG);
+ * </pre>
+ *
+ * <h3>Consistency Tokens</h3>
+ *
+ * <p>To read its own writes from an eventually consistent data store without
+ * requesting strong consistency for every read, an application can declare
+ * {@link ConsistencyToken} as the return type of a <code>save</code> method
+ * and present the token to subsequent reads by adding a
+ * <code>ConsistencyToken</code> parameter. For example,</p>
+ *
+ * <pre>
+ * ConsistencyToken save(Iterable&lt;Product&gt; products);
+ *
+ * Optional&lt;Product&gt; findBySku(String sku, ConsistencyToken token);
+ *
+ * ...
+ * ConsistencyToken token = products.save(received);
+ * found = products.findBySku(sku, token);
+ * </pre>
+ *
  * <h2>Jakarta Validation</h2>
  *
  * <p>When a Jakarta Validation provider is present, validation constraints that are defined for entities
@@ -543,7 +646,12 @@ import jakarta.data.repository.Sort;
 //       under: "Wildcard characters for patterns are determined by the data access provider"
 // TODO Ensure we have all required supported return types listed.
 module jakarta.data.api {
+    requires static jdk.jfr;
+
     exports jakarta.data.repository;
     exports jakarta.data.exceptions;
+    exports jakarta.data.spi;
+    exports jakarta.data.spi.jfr;
     opens jakarta.data.repository;
+    uses jakarta.data.spi.RepositoryMethodListener;
 }
\ No newline at end of file
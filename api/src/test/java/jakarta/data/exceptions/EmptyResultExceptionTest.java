@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.exceptions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EmptyResultExceptionTest {
+
+    @Test
+    @DisplayName("Should create an exception without a stack trace or suppression")
+    void shouldCreateStacklessException() {
+        EmptyResultException exception = new EmptyResultException("stackless", null, false, false);
+        exception.addSuppressed(new IllegalStateException("ignored"));
+        exception.setStackTrace(new StackTraceElement[] {
+                new StackTraceElement("Repository", "find", "Repository.java", 1) });
+
+        assertSoftly(softly -> {
+            softly.assertThat(exception.getMessage()).isEqualTo("stackless");
+            softly.assertThat(exception.getCause()).isNull();
+            softly.assertThat(exception.getStackTrace()).isEmpty();
+            softly.assertThat(exception.getSuppressed()).isEmpty();
+            softly.assertThat(exception.fillInStackTrace().getStackTrace()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should create an exception with a stack trace and suppression")
+    void shouldCreateExceptionWithStackTrace() {
+        EmptyResultException exception = new EmptyResultException("with stack", null, true, true);
+        exception.addSuppressed(new IllegalStateException("suppressed"));
+
+        assertSoftly(softly -> {
+            softly.assertThat(exception.getStackTrace()).isNotEmpty();
+            softly.assertThat(exception.getSuppressed()).hasSize(1);
+        });
+    }
+}
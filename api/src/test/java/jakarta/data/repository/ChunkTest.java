@@ -0,0 +1,45 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ChunkTest {
+
+    @Test
+    @DisplayName("Should return exception when maxEntities is zero")
+    void shouldReturnErrorWhenMaxEntitiesIsZero() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Chunk.of(0));
+    }
+
+    @Test
+    @DisplayName("Should return exception when maxEntities is negative")
+    void shouldReturnErrorWhenMaxEntitiesIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Chunk.of(-10));
+    }
+
+    @Test
+    @DisplayName("Should create chunk with maxEntities")
+    void shouldCreateChunk() {
+        assertThat(Chunk.of(10000).maxEntities()).isEqualTo(10000);
+    }
+}
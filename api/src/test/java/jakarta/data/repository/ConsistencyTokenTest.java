@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class ConsistencyTokenTest {
+
+    @Test
+    @DisplayName("Should return exception when the value is null")
+    void shouldReturnErrorWhenValueIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> ConsistencyToken.of(null));
+    }
+
+    @Test
+    @DisplayName("Should return exception when the value is blank")
+    void shouldReturnErrorWhenValueIsBlank() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.of(""));
+        assertThatIllegalArgumentException().isThrownBy(() -> ConsistencyToken.of("  "));
+    }
+
+    @Test
+    @DisplayName("Should recreate equal tokens from the same value")
+    void shouldCreateConsistencyToken() {
+        ConsistencyToken token = ConsistencyToken.of("lsn:1024");
+        assertSoftly(soft -> {
+            soft.assertThat(token.value()).isEqualTo("lsn:1024");
+            soft.assertThat(ConsistencyToken.of(token.value())).isEqualTo(token);
+            soft.assertThat(ConsistencyToken.of("lsn:2048")).isNotEqualTo(token);
+        });
+    }
+}
@@ -20,10 +20,12 @@ package jakarta.data.repository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.SoftAssertions.assertSoftly;
 
@@ -87,6 +89,61 @@ class PageableTest {
               .isEqualTo("Pageable{page=1, size=80, yearBorn DESC, monthBorn ASC, id ASC}"));
     }
 
+    @Test
+    @DisplayName("Should request prefetching and retain the request for subsequent pages")
+    void shouldRequestPrefetch() {
+        Pageable pageable = Pageable.ofSize(20).sortBy(Sort.asc("id")).prefetch(true);
+
+        assertSoftly(softly -> {
+            softly.assertThat(Pageable.ofSize(20).prefetch()).isFalse();
+            softly.assertThat(pageable.prefetch()).isTrue();
+            softly.assertThat(pageable.next().prefetch()).isTrue();
+            softly.assertThat(pageable.page(4).size(30).prefetch()).isTrue();
+            softly.assertThat(pageable.afterKeyset(20L).prefetch()).isTrue();
+            softly.assertThat(pageable.prefetch(false).prefetch()).isFalse();
+            softly.assertThat(pageable).isNotEqualTo(pageable.prefetch(false));
+            softly.assertThat(pageable.toString()).isEqualTo("Pageable{page=1, size=20, prefetch, id ASC}");
+        });
+    }
+
+    @Test
+    @DisplayName("Should request scroll pagination with a time to live and continue from a token")
+    void shouldRequestScroll() {
+        Pageable first = Pageable.ofSize(100).sortBy(Sort.asc("id")).scroll(Duration.ofMinutes(5));
+        Pageable second = first.afterScrollToken("c1a5");
+
+        assertSoftly(softly -> {
+            softly.assertThat(Pageable.ofSize(100).timeToLive()).isNull();
+            softly.assertThat(first.mode()).isEqualTo(Pageable.Mode.SCROLL);
+            softly.assertThat(first.timeToLive()).isEqualTo(Duration.ofMinutes(5));
+            softly.assertThat(first.cursor()).isNull();
+            softly.assertThat(first.page()).isEqualTo(1L);
+            softly.assertThat(Pageable.ofPage(5).scroll(Duration.ofMinutes(5)).page()).isEqualTo(1L);
+            softly.assertThat(second.mode()).isEqualTo(Pageable.Mode.SCROLL);
+            softly.assertThat(second.page()).isEqualTo(2L);
+            softly.assertThat(second.timeToLive()).isEqualTo(Duration.ofMinutes(5));
+            softly.assertThat(second.cursor().getKeysetElement(0)).isEqualTo("c1a5");
+            softly.assertThat(second.size(50).timeToLive()).isEqualTo(Duration.ofMinutes(5));
+            softly.assertThat(first.toString()).isEqualTo("Pageable{page=1, size=100, mode=SCROLL, timeToLive=PT5M, id ASC}");
+            softly.assertThat(second.toString())
+                    .isEqualTo("Pageable{page=2, size=100, mode=SCROLL, 1 token, timeToLive=PT5M, id ASC}");
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject invalid scroll pagination")
+    void shouldRejectInvalidScroll() {
+        Pageable scroll = Pageable.ofSize(100).scroll(Duration.ofSeconds(30));
+
+        assertThatNullPointerException().isThrownBy(() -> Pageable.ofSize(100).scroll(null));
+        assertThatIllegalArgumentException().isThrownBy(() -> Pageable.ofSize(100).scroll(Duration.ZERO));
+        assertThatIllegalArgumentException().isThrownBy(() -> Pageable.ofSize(100).scroll(Duration.ofSeconds(-1)));
+        assertThatIllegalArgumentException().isThrownBy(() -> scroll.afterScrollToken(null));
+        assertThatThrownBy(() -> Pageable.ofSize(100).afterScrollToken("c1a5"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(scroll::next).isInstanceOf(UnsupportedOperationException.class);
+    }
+
     @Test
     @DisplayName("Should throw IllegalArgumentException when page is not present")
     void shouldReturnErrorWhenThereIsIllegalArgument() {
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class TimeoutTest {
+
+    @Test
+    @DisplayName("Should return exception when the duration is null")
+    void shouldReturnErrorWhenDurationIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> Timeout.of(null));
+    }
+
+    @Test
+    @DisplayName("Should return exception when the duration is zero")
+    void shouldReturnErrorWhenDurationIsZero() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Timeout.of(Duration.ZERO));
+    }
+
+    @Test
+    @DisplayName("Should return exception when the duration is negative")
+    void shouldReturnErrorWhenDurationIsNegative() {
+        assertThatIllegalArgumentException().isThrownBy(() -> Timeout.ofMillis(-1));
+        assertThatIllegalArgumentException().isThrownBy(() -> Timeout.ofSeconds(-5));
+    }
+
+    @Test
+    @DisplayName("Should create timeouts with equal durations")
+    void shouldCreateTimeout() {
+        assertSoftly(soft -> {
+            soft.assertThat(Timeout.ofMillis(1500).duration()).isEqualTo(Duration.ofMillis(1500));
+            soft.assertThat(Timeout.ofSeconds(2).duration()).isEqualTo(Duration.ofSeconds(2));
+            soft.assertThat(Timeout.ofSeconds(2)).isEqualTo(Timeout.ofMillis(2000));
+            soft.assertThat(Timeout.of(Duration.ofMinutes(1))).isEqualTo(Timeout.ofSeconds(60));
+        });
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class EntityComparatorsTest {
+
+    public record Address(String city, int zipCode) {
+    }
+
+    public static class Person {
+        private final String name;
+        private final int age;
+        private final Address address;
+        private final boolean active;
+
+        Person(String name, int age, Address address, boolean active) {
+            this.name = name;
+            this.age = age;
+            this.address = address;
+            this.active = active;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    private static final Person ALICE = new Person("Alice", 30, new Address("Rochester", 55901), true);
+    private static final Person ALICE_UPPER = new Person("ALICE", 40, null, false);
+    private static final Person BOB = new Person("bob", 30, new Address("austin", 78701), false);
+    private static final Person CARL = new Person("carl", 20, new Address("Boston", 2101), true);
+    private static final Person NONAME = new Person(null, 20, new Address("Boston", 2109), true);
+
+    private static List<Person> people() {
+        return new ArrayList<>(List.of(BOB, NONAME, ALICE, CARL, ALICE_UPPER));
+    }
+
+    @Test
+    @DisplayName("Should order by each sort criteria in order of precedence")
+    void shouldOrderByMultipleSorts() {
+        List<Person> list = people();
+        list.sort(EntityComparators.of(Person.class, Sort.desc("age"), Sort.ascIgnoreCase("name")));
+        assertThat(list).containsExactly(ALICE_UPPER, ALICE, BOB, CARL, NONAME);
+    }
+
+    @Test
+    @DisplayName("Should order null values last for ascending and first for descending sorts")
+    void shouldOrderNulls() {
+        List<Person> list = people();
+        list.sort(EntityComparators.of(Person.class, Sort.asc("name")));
+        assertSoftly(softly -> {
+            softly.assertThat(list).containsExactly(ALICE_UPPER, ALICE, BOB, CARL, NONAME);
+            list.sort(EntityComparators.of(Person.class, Sort.desc("name")));
+            softly.assertThat(list).containsExactly(NONAME, CARL, BOB, ALICE, ALICE_UPPER);
+        });
+    }
+
+    @Test
+    @DisplayName("Should compare case insensitively only when requested")
+    void shouldIgnoreCase() {
+        Comparator<Person> caseSensitive = EntityComparators.of(Person.class, Sort.asc("name"));
+        Comparator<Person> caseInsensitive = EntityComparators.of(Person.class, Sort.ascIgnoreCase("name"));
+        assertSoftly(softly -> {
+            softly.assertThat(caseSensitive.compare(ALICE, ALICE_UPPER)).isPositive();
+            softly.assertThat(caseInsensitive.compare(ALICE, ALICE_UPPER)).isZero();
+            softly.assertThat(caseSensitive.compare(ALICE_UPPER, BOB)).isNegative();
+            softly.assertThat(caseInsensitive.compare(BOB, ALICE_UPPER)).isPositive();
+        });
+    }
+
+    @Test
+    @DisplayName("Should resolve record components, is accessors and properties of embedded objects")
+    void shouldResolveAccessors() {
+        List<Person> list = people();
+        list.sort(EntityComparators.of(Person.class, Sort.desc("active"), Sort.ascIgnoreCase("address.city"),
+                                       Sort.desc("address.zipCode")));
+        assertThat(list).containsExactly(NONAME, CARL, ALICE, BOB, ALICE_UPPER);
+    }
+
+    @Test
+    @DisplayName("Should order the same for equal sort criteria")
+    void shouldOrderSameForEqualSorts() {
+        List<Person> expected = people();
+        expected.sort(EntityComparators.of(Person.class, Sort.asc("age"), Sort.desc("name")));
+        List<Person> list = people();
+        list.sort(EntityComparators.of(Person.class, List.of(Sort.asc("age"), Sort.desc("name"))));
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should sort a list in the same order as the comparator")
+    void shouldSortLikeComparator() {
+        List<Sort> sorts = List.of(Sort.asc("age"), Sort.descIgnoreCase("name"));
+        List<Person> expected = people();
+        expected.sort(EntityComparators.of(Person.class, sorts));
+        List<Person> list = people();
+        EntityComparators.sort(list, Person.class, sorts);
+        assertThat(list).containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should raise exception when a property is not found")
+    void shouldRaiseErrorWhenPropertyNotFound() {
+        assertThatIllegalArgumentException().isThrownBy(() -> EntityComparators.of(Person.class, Sort.asc("salary")));
+        assertThatIllegalArgumentException().isThrownBy(() -> EntityComparators.of(Person.class, Sort.asc("address.street")));
+    }
+
+    @Test
+    @DisplayName("Should raise exception when the entity class is null")
+    void shouldRaiseErrorWhenEntityClassIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> EntityComparators.of(null, Sort.asc("name")));
+    }
+}
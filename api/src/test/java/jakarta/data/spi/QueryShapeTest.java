@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.Limit;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class QueryShapeTest {
+
+    interface Products {
+        List<Object> findByNameLike(String pattern, Pageable pagination);
+
+        List<Object> findByNameLike(String pattern, Limit limit, Sort... sorts);
+    }
+
+    private static final Method PAGED = method(Pageable.class);
+
+    private static final Method LIMITED = method(Limit.class, Sort[].class);
+
+    private static Method method(Class<?>... specialParameterTypes) {
+        Class<?>[] parameterTypes = new Class<?>[specialParameterTypes.length + 1];
+        parameterTypes[0] = String.class;
+        System.arraycopy(specialParameterTypes, 0, parameterTypes, 1, specialParameterTypes.length);
+        try {
+            return Products.class.getMethod("findByNameLike", parameterTypes);
+        } catch (NoSuchMethodException x) {
+            throw new AssertionError(x);
+        }
+    }
+
+    @Test
+    @DisplayName("Should raise exception when the method is null")
+    void shouldRaiseErrorWhenMethodIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> QueryShape.of(null, Pageable.ofSize(10)));
+    }
+
+    @Test
+    @DisplayName("Should be equal for pages that differ only in page number, size and keyset values")
+    void shouldBeEqualForSameSortsAndMode() {
+        Pageable first = Pageable.ofSize(10).sortBy(Sort.asc("name"), Sort.desc("id"));
+        Pageable third = Pageable.ofPage(3).size(25).sortBy(Sort.asc("name"), Sort.desc("id"));
+        Pageable after = first.afterKeyset("banana", 5L);
+        Pageable afterOther = third.afterKeyset("cherry", 9L);
+
+        assertSoftly(soft -> {
+            soft.assertThat(QueryShape.of(PAGED, first)).isEqualTo(QueryShape.of(PAGED, third));
+            soft.assertThat(QueryShape.of(PAGED, first)).hasSameHashCodeAs(QueryShape.of(PAGED, third));
+            soft.assertThat(QueryShape.of(PAGED, first)).isEqualTo(QueryShape.of(PAGED, first.next()));
+            soft.assertThat(QueryShape.of(PAGED, after)).isEqualTo(QueryShape.of(PAGED, afterOther));
+            soft.assertThat(QueryShape.of(PAGED, after)).hasSameHashCodeAs(QueryShape.of(PAGED, afterOther));
+            soft.assertThat(QueryShape.of(PAGED, after).mode()).isEqualTo(Pageable.Mode.CURSOR_NEXT);
+        });
+    }
+
+    @Test
+    @DisplayName("Should differ when sorts, mode, limit or method differ")
+    void shouldDifferWhenShapeDiffers() {
+        Pageable pagination = Pageable.ofSize(10).sortBy(Sort.asc("name"));
+
+        assertSoftly(soft -> {
+            soft.assertThat(QueryShape.of(PAGED, pagination))
+                    .isNotEqualTo(QueryShape.of(PAGED, pagination.sortBy(Sort.desc("name"))));
+            soft.assertThat(QueryShape.of(PAGED, pagination))
+                    .isNotEqualTo(QueryShape.of(PAGED, pagination.sortBy(Sort.ascIgnoreCase("name"))));
+            soft.assertThat(QueryShape.of(PAGED, pagination))
+                    .isNotEqualTo(QueryShape.of(PAGED, pagination.sortBy(Sort.asc("name"), Sort.asc("id"))));
+            soft.assertThat(QueryShape.of(PAGED, pagination))
+                    .isNotEqualTo(QueryShape.of(PAGED, pagination.afterKeyset("banana")));
+            soft.assertThat(QueryShape.of(PAGED, pagination.afterKeyset("banana")))
+                    .isNotEqualTo(QueryShape.of(PAGED, pagination.beforeKeyset("banana")));
+            soft.assertThat(QueryShape.of(LIMITED, Limit.of(10), Sort.asc("name")))
+                    .isNotEqualTo(QueryShape.of(LIMITED, null, Sort.asc("name")));
+            soft.assertThat(QueryShape.of(LIMITED, (Limit) null))
+                    .isNotEqualTo(QueryShape.of(PAGED, (Pageable) null));
+        });
+    }
+
+    @Test
+    @DisplayName("Should ignore the bounds of the limit")
+    void shouldIgnoreLimitBounds() {
+        QueryShape top10 = QueryShape.of(LIMITED, Limit.of(10), Sort.desc("price"));
+        QueryShape range = QueryShape.of(LIMITED, Limit.range(51, 100), Sort.desc("price"));
+
+        assertSoftly(soft -> {
+            soft.assertThat(top10).isEqualTo(range);
+            soft.assertThat(top10.limited()).isTrue();
+            soft.assertThat(top10.mode()).isNull();
+            soft.assertThat(top10.sorts()).containsExactly(Sort.desc("price"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reuse the sort list of the Pageable instead of copying it")
+    void shouldReuseSortsOfPageable() {
+        Pageable unsorted = Pageable.ofSize(10);
+        Pageable sorted = unsorted.sortBy(Sort.asc("name"), Sort.asc("id"));
+        Pageable sortedByIterable = unsorted.sortBy(List.of(Sort.asc("name"), Sort.asc("id")));
+
+        assertSoftly(soft -> {
+            soft.assertThat(QueryShape.of(PAGED, unsorted).sorts()).isSameAs(unsorted.sorts());
+            soft.assertThat(QueryShape.of(PAGED, sorted).sorts()).isSameAs(sorted.sorts());
+            soft.assertThat(QueryShape.of(PAGED, sortedByIterable).sorts()).isSameAs(sortedByIterable.sorts());
+            soft.assertThat(QueryShape.of(PAGED, sorted.next()).sorts()).isSameAs(sorted.next().sorts());
+            Pageable afterKeyset = sorted.afterKeyset("banana", 5L);
+            soft.assertThat(QueryShape.of(PAGED, afterKeyset).sorts()).isSameAs(afterKeyset.sorts());
+        });
+    }
+
+    @Test
+    @DisplayName("Should not be affected by changes to a modifiable sort list")
+    void shouldCopyModifiableSorts() {
+        List<Sort> sorts = new ArrayList<>(List.of(Sort.asc("name")));
+        Sort[] sortArray = { Sort.asc("name") };
+        QueryShape fromList = new QueryShape(LIMITED, sorts, null, false);
+        QueryShape fromArray = QueryShape.of(LIMITED, null, sortArray);
+
+        sorts.add(Sort.asc("id"));
+        sortArray[0] = Sort.desc("name");
+
+        assertSoftly(soft -> {
+            soft.assertThat(fromList.sorts()).containsExactly(Sort.asc("name"));
+            soft.assertThat(fromArray.sorts()).containsExactly(Sort.asc("name"));
+            soft.assertThat(fromList).isEqualTo(fromArray);
+        });
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.Pageable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RepositoryMethodListenerTest {
+
+    private static final Method METHOD = method();
+
+    private static Method method() {
+        try {
+            return Object.class.getMethod("toString");
+        } catch (NoSuchMethodException x) {
+            throw new AssertionError(x);
+        }
+    }
+
+    static class RecordingListener implements RepositoryMethodListener {
+        final List<String> notifications = new ArrayList<>();
+
+        @Override
+        public void completed(Method method, Pageable.Mode mode, long resultCount, long nanos) {
+            notifications.add("completed " + method.getName() + " " + mode + " " + resultCount + " " + nanos);
+        }
+
+        @Override
+        public void failed(Method method, Pageable.Mode mode, long nanos, Throwable failure) {
+            notifications.add("failed " + method.getName() + " " + mode + " " + nanos + " " + failure.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not be enabled when no listeners are supplied")
+    void shouldReturnNoOpWhenEmpty() {
+        RepositoryMethodListener listener = RepositoryMethodListener.of();
+
+        assertSoftly(soft -> {
+            soft.assertThat(listener).isSameAs(RepositoryMethodListener.none());
+            soft.assertThat(listener.isEnabled()).isFalse();
+        });
+    }
+
+    @Test
+    @DisplayName("Should skip listeners that are not enabled")
+    void shouldSkipDisabledListeners() {
+        RecordingListener recording = new RecordingListener();
+
+        assertSoftly(soft -> {
+            soft.assertThat(RepositoryMethodListener.of(RepositoryMethodListener.none(), recording))
+                    .isSameAs(recording);
+            soft.assertThat(RepositoryMethodListener.of(RepositoryMethodListener.none()))
+                    .isSameAs(RepositoryMethodListener.none());
+        });
+    }
+
+    @Test
+    @DisplayName("Should notify all enabled listeners in order")
+    void shouldNotifyAllListeners() {
+        RecordingListener first = new RecordingListener();
+        RecordingListener second = new RecordingListener();
+        RepositoryMethodListener listener = RepositoryMethodListener.of(first, second);
+
+        listener.completed(METHOD, Pageable.Mode.CURSOR_NEXT, 10L, 2500L);
+        listener.failed(METHOD, null, 1500L, new IllegalStateException("closed"));
+
+        assertSoftly(soft -> {
+            soft.assertThat(listener.isEnabled()).isTrue();
+            soft.assertThat(first.notifications).containsExactly(
+                    "completed toString CURSOR_NEXT 10 2500",
+                    "failed toString null 1500 closed");
+            soft.assertThat(second.notifications).isEqualTo(first.notifications);
+        });
+    }
+
+    @Test
+    @DisplayName("Should ignore notifications when not enabled")
+    void shouldIgnoreNotificationsWhenNone() {
+        RepositoryMethodListener.none().completed(METHOD, Pageable.Mode.OFFSET, 1L, 1L);
+        RepositoryMethodListener.none().failed(METHOD, Pageable.Mode.OFFSET, 1L, new RuntimeException());
+
+        assertThat(RepositoryMethodListener.none().isEnabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should raise exception when a listener is null")
+    void shouldRaiseErrorWhenListenerIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> RepositoryMethodListener.of(new RecordingListener(), null));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.OrderBy;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class SortCriteriaTest {
+
+    interface Numbers {
+        @OrderBy(value = "floorOfSquareRoot", descending = true)
+        @OrderBy(value = "name", ignoreCase = true)
+        List<Object> findByIdLessThan(long max, Pageable pagination);
+
+        List<Object> findByIdGreaterThan(long min, Sort... sorts);
+    }
+
+    private static Method method(String name, Class<?> specialParameterType) {
+        try {
+            return Numbers.class.getMethod(name, long.class, specialParameterType);
+        } catch (NoSuchMethodException x) {
+            throw new AssertionError(x);
+        }
+    }
+
+    private static final Method ORDERED = method("findByIdLessThan", Pageable.class);
+
+    private static final Method UNORDERED = method("findByIdGreaterThan", Sort[].class);
+
+    @Test
+    @DisplayName("Should read static sort criteria from OrderBy annotations once per method")
+    void shouldReadOrderByAnnotations() {
+        SortCriteria criteria = SortCriteria.of(ORDERED);
+        assertSoftly(softly -> {
+            softly.assertThat(criteria.staticSorts())
+                    .containsExactly(Sort.desc("floorOfSquareRoot"), Sort.ascIgnoreCase("name"));
+            softly.assertThat(SortCriteria.of(ORDERED)).isSameAs(criteria);
+            softly.assertThat(SortCriteria.of(UNORDERED).staticSorts()).isEmpty();
+        });
+    }
+
+    @Test
+    @DisplayName("Should place static sort criteria before dynamic sort criteria")
+    void shouldGiveStaticSortsPrecedence() {
+        Pageable pagination = Pageable.ofSize(8).sortBy(Sort.asc("numType"), Sort.desc("id"));
+        assertThat(SortCriteria.of(ORDERED).merge(pagination))
+                .containsExactly(Sort.desc("floorOfSquareRoot"), Sort.ascIgnoreCase("name"),
+                                 Sort.asc("numType"), Sort.desc("id"));
+    }
+
+    @Test
+    @DisplayName("Should remove sort criteria that cannot affect the order")
+    void shouldRemoveRedundantSorts() {
+        assertSoftly(softly -> {
+            softly.assertThat(SortCriteria.of(ORDERED).merge(Sort.asc("floorOfSquareRoot"), Sort.descIgnoreCase("name"),
+                                                             Sort.desc("name")))
+                    .containsExactly(Sort.desc("floorOfSquareRoot"), Sort.ascIgnoreCase("name"), Sort.desc("name"));
+            softly.assertThat(SortCriteria.of(UNORDERED).merge(Sort.asc("id"), Sort.desc("id")))
+                    .containsExactly(Sort.asc("id"));
+        });
+    }
+
+    @Test
+    @DisplayName("Should reuse the merged list for the same dynamic sort criteria")
+    void shouldCacheMergedSorts() {
+        SortCriteria criteria = SortCriteria.of(ORDERED);
+        Pageable pagination = Pageable.ofSize(8).sortBy(Sort.asc("numType"), Sort.desc("id"));
+        List<Sort> sorts = criteria.merge(pagination);
+        assertSoftly(softly -> {
+            softly.assertThat(criteria.merge(pagination.next())).isSameAs(sorts);
+            softly.assertThat(criteria.merge(pagination.page(5))).isSameAs(sorts);
+            softly.assertThat(criteria.merge((Pageable) null)).isSameAs(criteria.staticSorts());
+            softly.assertThat(criteria.merge()).isSameAs(criteria.staticSorts());
+        });
+    }
+
+    @Test
+    @DisplayName("Should merge again when the same list is supplied with different contents")
+    void shouldMergeChangedListContents() {
+        SortCriteria criteria = SortCriteria.of(List.of(Sort.desc("floorOfSquareRoot")));
+        List<Sort> dynamicSorts = new ArrayList<>(List.of(Sort.asc("id")));
+        List<Sort> first = criteria.merge(dynamicSorts);
+        assertThat(first).containsExactly(Sort.desc("floorOfSquareRoot"), Sort.asc("id"));
+
+        dynamicSorts.set(0, Sort.desc("name"));
+        assertSoftly(softly -> {
+            softly.assertThat(criteria.merge(dynamicSorts))
+                    .containsExactly(Sort.desc("floorOfSquareRoot"), Sort.desc("name"));
+            softly.assertThat(criteria.merge(new ArrayList<>(dynamicSorts)))
+                    .isSameAs(criteria.merge(dynamicSorts));
+            softly.assertThat(criteria.merge(List.of(Sort.asc("id")))).isEqualTo(first);
+        });
+    }
+
+    @Test
+    @DisplayName("Should create sort criteria from static sorts that the provider supplies")
+    void shouldCreateFromStaticSorts() {
+        SortCriteria criteria = SortCriteria.of(List.of(Sort.desc("floorOfSquareRoot")));
+        assertThat(criteria.merge(List.of(Sort.asc("id"))))
+                .containsExactly(Sort.desc("floorOfSquareRoot"), Sort.asc("id"));
+    }
+
+    @Test
+    @DisplayName("Should raise exception when the method is null")
+    void shouldRaiseErrorWhenMethodIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> SortCriteria.of((Method) null));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi;
+
+import jakarta.data.repository.Limit;
+import jakarta.data.repository.Streamable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNullPointerException;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class SortedStreamsTest {
+
+    @Test
+    @DisplayName("Should merge sorted streams into a single sorted stream")
+    void shouldMergeSortedStreams() {
+        Stream<Integer> merged = SortedStreams.merge(Comparator.reverseOrder(),
+                List.of(Stream.of(9, 5, 1), Stream.empty(), Stream.of(8, 5, 2)));
+        assertThat(merged).containsExactly(9, 8, 5, 5, 2, 1);
+    }
+
+    @Test
+    @DisplayName("Should return results that compare as equal in the order of the sources")
+    void shouldKeepOrderOfSourcesForEqualResults() {
+        Comparator<String> ignoreCase = String.CASE_INSENSITIVE_ORDER;
+        Stream<String> merged = SortedStreams.merge(ignoreCase,
+                List.of(Stream.of("a", "B", "c"), Stream.of("b", "C")));
+        assertThat(merged).containsExactly("a", "B", "b", "c", "C");
+    }
+
+    @Test
+    @DisplayName("Should merge Streamable sources")
+    void shouldMergeStreamables() {
+        Streamable<String> first = () -> List.of("a", "c").iterator();
+        Streamable<String> second = () -> List.of("b", "c", "d").iterator();
+        assertThat(SortedStreams.merge(Comparator.<String>naturalOrder(), null, first, second))
+                .containsExactly("a", "b", "c", "c", "d");
+    }
+
+    @Test
+    @DisplayName("Should stop reading from the sources after the limit is reached")
+    void shouldStopReadingAtLimit() {
+        AtomicInteger reads = new AtomicInteger();
+        Stream<Integer> multiplesOf2 = Stream.iterate(2, i -> i + 2).peek(i -> reads.incrementAndGet());
+        Stream<Integer> multiplesOf3 = Stream.iterate(3, i -> i + 3).peek(i -> reads.incrementAndGet());
+
+        Stream<Integer> merged = SortedStreams.merge(Comparator.naturalOrder(), Limit.range(3, 6),
+                List.of(multiplesOf2, multiplesOf3));
+
+        assertSoftly(softly -> {
+            softly.assertThat(reads).hasValue(0);
+            softly.assertThat(merged).containsExactly(4, 6, 6, 8);
+            softly.assertThat(reads).hasValue(7);
+        });
+    }
+
+    @Test
+    @DisplayName("Should close the sources when the merged stream is closed")
+    void shouldCloseSources() {
+        AtomicInteger closed = new AtomicInteger();
+        Stream<Integer> merged = SortedStreams.merge(Comparator.naturalOrder(),
+                List.of(Stream.of(1).onClose(closed::incrementAndGet), Stream.of(2).onClose(closed::incrementAndGet)));
+        merged.close();
+        assertThat(closed).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Should raise exception when the comparator is null")
+    void shouldRaiseErrorWhenComparatorIsNull() {
+        assertThatNullPointerException().isThrownBy(() -> SortedStreams.merge(null, List.of(Stream.of(1))));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package jakarta.data.spi.jfr;
+
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Sort;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+class RepositoryEventTest {
+
+    interface Products {
+        List<String> findByNameLike(String pattern, Pageable pagination);
+    }
+
+    @Test
+    @DisplayName("Should record repository, method, sorts and counts of committed events")
+    void shouldRecordEvents(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("events.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(QueryExecutedEvent.class);
+            recording.enable(PageFetchedEvent.class);
+            recording.enable(SaveBatchEvent.class);
+            recording.enable(StreamEvent.class);
+            recording.start();
+
+            QueryExecutedEvent query = new QueryExecutedEvent();
+            query.begin();
+            query.setMethod(Products.class, Products.class.getMethod("findByNameLike", String.class, Pageable.class),
+                    String.class);
+            query.setSorts(List.of(Sort.asc("name"), Sort.descIgnoreCase("type")));
+            query.setLimited(true);
+            query.setResultCount(7L);
+            query.commit();
+
+            PageFetchedEvent page = new PageFetchedEvent();
+            page.begin();
+            page.setPagination(Pageable.ofSize(20).sortBy(Sort.desc("id")).afterKeyset(100L));
+            page.setResultCount(20L);
+            page.commit();
+
+            StreamEvent stream = new StreamEvent();
+            stream.begin();
+            stream.setElementCount(3L);
+            stream.commit();
+
+            SaveBatchEvent save = new SaveBatchEvent();
+            save.setEntityCount(50L);
+            save.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .collect(Collectors.toMap(e -> e.getEventType().getName(), Function.identity()));
+
+        assertSoftly(soft -> {
+            soft.assertThat(events).containsOnlyKeys("jakarta.data.QueryExecuted", "jakarta.data.PageFetched",
+                    "jakarta.data.Stream", "jakarta.data.SaveBatch");
+
+            RecordedEvent query = events.get("jakarta.data.QueryExecuted");
+            soft.assertThat(query.getClass("repository").getName()).isEqualTo(Products.class.getName());
+            soft.assertThat(query.getString("method")).isEqualTo("findByNameLike");
+            soft.assertThat(query.getClass("entity").getName()).isEqualTo(String.class.getName());
+            soft.assertThat(query.getString("sorts")).isEqualTo("name ASC, type IGNORE CASE DESC");
+            soft.assertThat(query.getBoolean("limited")).isTrue();
+            soft.assertThat(query.getLong("resultCount")).isEqualTo(7L);
+
+            RecordedEvent page = events.get("jakarta.data.PageFetched");
+            soft.assertThat(page.getString("sorts")).isEqualTo("id DESC");
+            soft.assertThat(page.getString("mode")).isEqualTo("CURSOR_NEXT");
+            soft.assertThat(page.getLong("page")).isEqualTo(1L);
+            soft.assertThat(page.getInt("pageSize")).isEqualTo(20);
+            soft.assertThat(page.getLong("resultCount")).isEqualTo(20L);
+
+            soft.assertThat(events.get("jakarta.data.Stream").getLong("elementCount")).isEqualTo(3L);
+            soft.assertThat(events.get("jakarta.data.SaveBatch").getLong("entityCount")).isEqualTo(50L);
+        });
+    }
+
+    @Test
+    @DisplayName("Should summarize sort criteria in order of precedence")
+    void shouldSummarizeSorts() {
+        assertSoftly(soft -> {
+            soft.assertThat(RepositoryEvent.summarize(List.of())).isNull();
+            soft.assertThat(RepositoryEvent.summarize((List<Sort>) null)).isNull();
+            soft.assertThat(RepositoryEvent.summarize(List.of(Sort.ascIgnoreCase("lastName"), Sort.desc("id"))))
+                    .isEqualTo("lastName IGNORE CASE ASC, id DESC");
+            soft.assertThat(RepositoryEvent.summarize((Pageable.Mode) null)).isNull();
+            soft.assertThat(RepositoryEvent.summarize(Pageable.Mode.OFFSET)).isEqualTo("OFFSET");
+        });
+    }
+}
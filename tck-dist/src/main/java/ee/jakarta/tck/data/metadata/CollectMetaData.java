@@ -16,6 +16,8 @@
 package ee.jakarta.tck.data.metadata;
 
 import java.io.BufferedWriter;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileWriter;
@@ -23,7 +25,11 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.jar.JarEntry;
 import java.util.jar.JarInputStream;
 import java.util.stream.Collectors;
@@ -60,6 +66,7 @@ import ee.jakarta.tck.data.framework.utilities.TestProperty;
 public class CollectMetaData {
     // Constants
     private static final String FRAMEWORK_PACKAGE_PREFIX = "ee/jakarta/tck/data/framework";
+    private static final String ASSERTION_DESCRIPTOR = "L" + Assertion.class.getName().replace('.', '/') + ";";
     
     private static final String RUNTIME_TESTS_FILE = "runtime-tests.adoc";
     private static final String CHALLENGED_TESTS_FILE = "successful-challenges.adoc";
@@ -366,7 +373,7 @@ public class CollectMetaData {
      * @return list of metadata for each test
      */
     private static List<TestMetaData> collectMetaData(List<Class<?>> testClasses) {
-        return testClasses.stream()
+        return testClasses.parallelStream()
                 .flatMap(clazz -> AnnotationSupport.findAnnotatedMethods(clazz, Assertion.class, HierarchyTraversalMode.TOP_DOWN).stream())
                 .map(method -> {
                     boolean isDisabled = method.isAnnotationPresent(Disabled.class);
@@ -405,20 +412,28 @@ public class CollectMetaData {
     }
     
     /**
-     * Finds and loads all test classes inside of a TCK jar
+     * Finds and loads all test classes inside of a TCK jar.
+     * 
+     * The jar is read once, and each class file is summarized from its bytes without loading it.
+     * Only test classes that declare or inherit a method annotated with {@link Assertion} are loaded,
+     * and those are loaded in parallel.
      * 
      * @param jarLocation - Path to the TCK jar
      * @return List of test classes
      * @throws Exception - throws exception if jar cannot be located, or classes cannot be loaded.
      */
     private static List<Class<?>> getClassNames(String jarLocation) throws Exception {
-        ArrayList<Class<?>> classList = new ArrayList<>();
+        Map<String, ClassSummary> summaries = new HashMap<>();
+        List<String> testClassNames = new ArrayList<>();
         
         try (JarInputStream jar = new JarInputStream(new FileInputStream(jarLocation));) {
             for(JarEntry entry = jar.getNextJarEntry(); entry != null; entry = jar.getNextJarEntry()) {
-                if(isTestClass(entry.getName())) {
-                    debug("Attempting to load test class: " + entry.getName());
-                    classList.add(getClass(entry.getName().replaceAll("/", "\\.")));
+                if(entry.getName().endsWith(".class")) {
+                    ClassSummary summary = ClassSummary.read(jar.readAllBytes());
+                    summaries.put(summary.name(), summary);
+                    if(isTestClass(entry.getName())) {
+                        testClassNames.add(summary.name());
+                    }
                 } else if(entry.getName().contains("sig-test-pkg-list.txt")) {
                     debug("Attempting to read package list" + entry.getName());
                     apiPackages = new String(jar.readAllBytes(), StandardCharsets.UTF_8).lines()
@@ -431,7 +446,34 @@ public class CollectMetaData {
             }
         }
         
-        return classList;
+        return testClassNames.parallelStream()
+                .filter(name -> hasAssertions(name, summaries, new HashSet<>()))
+                .map(name -> name.replace('/', '.'))
+                .map(name -> {
+                    debug("Attempting to load test class: " + name);
+                    return getClass(name);
+                })
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Determines if a class, its superclasses or its interfaces reference the {@link Assertion} annotation.
+     * Types that are not part of the TCK jar are not considered.
+     * 
+     * @param className - The internal name of the class
+     * @param summaries - Summaries of all classes in the TCK jar, by internal name
+     * @param visited   - The internal names of classes already checked
+     * @return true - if an assertion could be present, false otherwise
+     */
+    private static boolean hasAssertions(String className, Map<String, ClassSummary> summaries, Set<String> visited) {
+        ClassSummary summary = summaries.get(className);
+        if(summary == null || !visited.add(className))
+            return false;
+        if(summary.hasAssertion())
+            return true;
+        if(hasAssertions(summary.superName(), summaries, visited))
+            return true;
+        return summary.interfaces().stream().anyMatch(intf -> hasAssertions(intf, summaries, visited));
     }
     
     /**
@@ -454,12 +496,12 @@ public class CollectMetaData {
     /**
      * Loads a given class and returns it
      * 
-     * @param className - The name of the class with or without the .class suffix
+     * @param className - The binary name of the class
      * @return The class object
      */
     private static Class<?> getClass(String className) {
         try {
-            return Class.forName(className.substring(0, className.lastIndexOf('.')));
+            return Class.forName(className);
         } catch (ClassNotFoundException e) {
             throw new RuntimeException(e);
         }
@@ -475,6 +517,62 @@ public class CollectMetaData {
             System.out.println(message);
     }
     
+    /**
+     * A data structure that represents what is needed from a class file to decide if it is a test class,
+     * read directly from the class file bytes so that the class does not need to be loaded.
+     */
+    record ClassSummary(String name, String superName, List<String> interfaces, boolean hasAssertion) {
+        
+        /**
+         * Reads the constant pool, name, superclass and interfaces of a class file.
+         * 
+         * @param bytes - The contents of the class file
+         * @return the summary of the class file
+         * @throws IOException - if the bytes are not a valid class file
+         */
+        static ClassSummary read(byte[] bytes) throws IOException {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+            if(in.readInt() != 0xCAFEBABE)
+                throw new IOException("Not a class file");
+            in.skipBytes(4); // minor and major version
+            
+            int poolSize = in.readUnsignedShort();
+            String[] utf8 = new String[poolSize];
+            int[] classNameIndex = new int[poolSize];
+            boolean hasAssertion = false;
+            for(int i = 1; i < poolSize; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1 -> {
+                        utf8[i] = in.readUTF();
+                        hasAssertion |= ASSERTION_DESCRIPTOR.equals(utf8[i]);
+                    }
+                    case 7 -> classNameIndex[i] = in.readUnsignedShort();
+                    case 8, 16, 19, 20 -> in.skipBytes(2);
+                    case 15 -> in.skipBytes(3);
+                    case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes(4);
+                    case 5, 6 -> {
+                        in.skipBytes(8);
+                        i++; // long and double take two constant pool entries
+                    }
+                    default -> throw new IOException("Unknown constant pool tag " + tag);
+                }
+            }
+            
+            in.skipBytes(2); // access flags
+            String name = utf8[classNameIndex[in.readUnsignedShort()]];
+            int superIndex = in.readUnsignedShort();
+            String superName = superIndex == 0 ? null : utf8[classNameIndex[superIndex]];
+            int interfaceCount = in.readUnsignedShort();
+            List<String> interfaces = new ArrayList<>(interfaceCount);
+            for(int i = 0; i < interfaceCount; i++) {
+                interfaces.add(utf8[classNameIndex[in.readUnsignedShort()]]);
+            }
+            
+            return new ClassSummary(name, superName, interfaces, hasAssertion);
+        }
+    }
+    
     /**
      * A data structure that represents data associated with test methods.
      */
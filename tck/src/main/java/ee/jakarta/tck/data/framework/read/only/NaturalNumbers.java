@@ -17,6 +17,7 @@ package ee.jakarta.tck.data.framework.read.only;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Stream;
 
 import jakarta.data.repository.CrudRepository;
@@ -38,6 +39,8 @@ import ee.jakarta.tck.data.framework.read.only.NaturalNumber.NumberType;
 @Repository
 public interface NaturalNumbers extends CrudRepository<NaturalNumber, Long> {
 
+    List<NaturalNumber> findFirstByNumTypeOrderByIdDesc(NumberType type, Limit limit);
+
     KeysetAwareSlice<NaturalNumber> findByFloorOfSquareRootOrderByIdAsc(long sqrtFloor,
                                                                         Pageable pagination);
 
@@ -51,6 +54,8 @@ public interface NaturalNumbers extends CrudRepository<NaturalNumber, Long> {
                                                        Limit limit,
                                                        Sort... sorts);
 
+    Stream<NaturalNumber> findByIdInOrderByIdAsc(Collection<Long> ids);
+
     NaturalNumber[] findByIdLessThan(long exclusiveMax, Sort primarySort, Sort secondarySort);
 
     ArrayList<NaturalNumber> findByIdLessThanEqual(long maximum, Sort... sorts);
@@ -17,9 +17,15 @@ package ee.jakarta.tck.data.framework.servlet;
 
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -41,12 +47,38 @@ public class TestServlet extends HttpServlet {
     
     private static final Logger log = Logger.getLogger(TestServlet.class.getCanonicalName());
 
+    /**
+     * Common type that every test method handle is adapted to so that it can be invoked
+     * with {@link MethodHandle#invokeExact} regardless of the original signature.
+     */
+    private static final MethodType TEST_METHOD_TYPE = MethodType.methodType(void.class,
+            TestServlet.class, HttpServletRequest.class, HttpServletResponse.class);
+
+    /**
+     * Test methods of each servlet class, keyed by method name.
+     * Computed once per class and shared by all instances of that class.
+     */
+    private static final ClassValue<Map<String, MethodHandle>> TEST_METHODS = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> servletClass) {
+            return findTestMethods(servletClass);
+        }
+    };
+
     private boolean runBeforeClass = true;
 
+    private transient Map<String, MethodHandle> testMethods;
+
     public static final String SUCCESS = "SUCCESS";
     public static final String FAILURE = "FAILURE";
     public static final String TEST_METHOD_PARAM = "testMethod";
 
+    @Override
+    public void init() throws ServletException {
+        super.init();
+        testMethods = TEST_METHODS.get(getClass());
+    }
+
     @Override
     protected void doPost(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
@@ -57,12 +89,10 @@ public class TestServlet extends HttpServlet {
     protected void doGet(HttpServletRequest request, HttpServletResponse response)
             throws ServletException, IOException {
         String method = request.getParameter(TEST_METHOD_PARAM);
-        
-        String requestParams = request.getParameterMap().keySet().stream()
-                .map(key -> key + "=" + Arrays.asList(request.getParameterMap().get(key)))
-                .collect(Collectors.joining(", ", "{", "}"));
-        
-        log.info("Received request to run test " + method + " with parameters " + requestParams);
+
+        log.info(() -> "Received request to run test " + method + " with parameters " + request.getParameterMap().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + Arrays.asList(entry.getValue()))
+                .collect(Collectors.joining(", ", "{", "}")));
 
         if (runBeforeClass) {
             try {
@@ -77,19 +107,16 @@ public class TestServlet extends HttpServlet {
         if (method != null && method.length() > 0) {
             try {
                 before();
-                // Use reflection to try invoking various test method signatures:
+                // Look up the test method among the precomputed signatures:
                 // 1) method(HttpServletRequest request, HttpServletResponse response)
                 // 2) method()
                 // 3) use custom method invocation by calling invokeTest(method, request,
                 // response)
+                MethodHandle mthd = testMethods.get(method);
                 try {
-                    Method mthd = getClass().getMethod(method, HttpServletRequest.class, HttpServletResponse.class);
-                    mthd.invoke(this, request, response);
-                } catch (NoSuchMethodException nsme) {
-                    try {
-                        Method mthd = getClass().getMethod(method, (Class<?>[]) null);
-                        mthd.invoke(this);
-                    } catch (NoSuchMethodException nsme1) {
+                    if (mthd != null) {
+                        mthd.invokeExact(this, request, response);
+                    } else {
                         invokeTest(method, request, response);
                     }
                 } finally {
@@ -98,9 +125,6 @@ public class TestServlet extends HttpServlet {
 
                 writer.println(SUCCESS);
             } catch (Throwable t) {
-                if (t instanceof InvocationTargetException) {
-                    t = t.getCause();
-                }
                 writer.println(FAILURE);
                 String message = "Caught exception attempting to call test method " + method + " on servlet "
                         + getClass().getName();
@@ -115,6 +139,45 @@ public class TestServlet extends HttpServlet {
         writer.close();
     }
 
+    /**
+     * Builds the dispatch table of test methods for a servlet class.
+     * A public method that accepts (HttpServletRequest, HttpServletResponse)
+     * takes precedence over a public method of the same name without parameters.
+     *
+     * @param servletClass - The servlet class
+     * @return - unmodifiable map of method name to a method handle of type {@link #TEST_METHOD_TYPE}
+     */
+    private static Map<String, MethodHandle> findTestMethods(Class<?> servletClass) {
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        Map<String, MethodHandle> methods = new HashMap<>();
+        for (Method mthd : servletClass.getMethods()) {
+            Class<?>[] paramTypes = mthd.getParameterTypes();
+            boolean withRequest = paramTypes.length == 2
+                    && paramTypes[0] == HttpServletRequest.class
+                    && paramTypes[1] == HttpServletResponse.class;
+            if (!withRequest && (paramTypes.length != 0 || methods.containsKey(mthd.getName()))) {
+                continue;
+            }
+
+            MethodHandle handle;
+            try {
+                handle = lookup.unreflect(mthd);
+            } catch (IllegalAccessException e) {
+                log.fine("Test method " + mthd + " is not accessible: " + e.getLocalizedMessage());
+                continue;
+            }
+            if (!withRequest) {
+                handle = MethodHandles.dropArguments(handle, handle.type().parameterCount(),
+                        HttpServletRequest.class, HttpServletResponse.class);
+            }
+            if (Modifier.isStatic(mthd.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, TestServlet.class);
+            }
+            methods.put(mthd.getName(), handle.asType(TEST_METHOD_TYPE));
+        }
+        return Collections.unmodifiableMap(methods);
+    }
+
     /**
      * Override to mimic JUnit's {@code @BeforeClass} annotation.
      * @throws Exception - unable to setup
@@ -19,12 +19,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.lang.reflect.InaccessibleObjectException;
 import java.lang.reflect.Method;
 import java.net.URL;
@@ -85,7 +83,7 @@ public class DataSignatureTestRunner extends SigTestEE {
         };
 
         // The JDK modules we want added to our classpath
-        String[] jdkModules = new String[] { "java.base", "java.rmi", "java.sql", "java.naming" };
+        String[] jdkModules = new String[] { "java.base", "java.rmi", "java.sql", "java.naming", "jdk.jfr" };
 
         // Get Jakarta artifacts from application server
         Set<String> classPaths = new HashSet<String>();
@@ -238,33 +236,7 @@ public class DataSignatureTestRunner extends SigTestEE {
         ArrayList<String> unlistedTechnologyPkgs = getUnlistedOptionalPackages();
 
         // Need to extract java modules into classes
-        String jimageDir = TestProperty.signatureImageDir.getValue();
-        File f = new File(jimageDir);
-        f.mkdirs();
-
-        String javaHome = System.getProperty("java.home");
-        log.info("Executing JImage");
-
-        try {
-            ProcessBuilder pb = new ProcessBuilder(javaHome + "/bin/jimage", "extract", "--dir=" + jimageDir,
-                    javaHome + "/lib/modules");
-            System.out
-                    .println(javaHome + "/bin/jimage extract --dir=" + jimageDir + " " + javaHome + "/lib/modules");
-            pb.redirectErrorStream(true);
-            Process proc = pb.start();
-            BufferedReader out = new BufferedReader(new InputStreamReader(proc.getInputStream()));
-            String line = null;
-            while ((line = out.readLine()) != null) {
-                log.info(line);
-            }
-
-            int rc = proc.waitFor();
-            log.info("JImage RC = " + rc);
-            out.close();
-        } catch (Exception e) {
-            log.info("Exception while executing JImage!  Some tests may fail.");
-            e.printStackTrace();
-        }
+        extractJDKModules(TestProperty.signatureImageDir.getValue());
 
         String classpath = getClasspath();
 
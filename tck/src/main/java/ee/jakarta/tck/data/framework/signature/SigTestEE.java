@@ -17,12 +17,14 @@ package ee.jakarta.tck.data.framework.signature;
 
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.PrintWriter;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import java.util.ArrayList;
-import java.util.Properties;
 
 import ee.jakarta.tck.data.framework.utilities.TestProperty;
 
@@ -42,6 +44,12 @@ public abstract class SigTestEE {
 
     protected SignatureTestDriver driver;
 
+    /**
+     * File within the jimage directory that identifies the JDK whose modules
+     * were extracted into that directory.
+     */
+    private static final String JIMAGE_MARKER = ".jimage-jdk";
+
     /**
      * <p>
      * Returns a {@link SignatureTestDriver} appropriate for the particular TCK
@@ -250,36 +258,9 @@ public abstract class SigTestEE {
 
         // If testing with Java 9+, extract the JDK's modules so they can be used
         // on the testcase's classpath.
-        Properties sysProps = System.getProperties();
-        String version = (String) sysProps.get("java.version");
+        String version = System.getProperty("java.version");
         if (!version.startsWith("1.")) {
-            String jimageDir = TestProperty.signatureImageDir.getValue();
-            File f = new File(jimageDir);
-            f.mkdirs();
-
-            String javaHome = (String) sysProps.get("java.home");
-            System.out.println("Executing JImage");
-
-            try {
-                ProcessBuilder pb = new ProcessBuilder(javaHome + "/bin/jimage", "extract", "--dir=" + jimageDir,
-                        javaHome + "/lib/modules");
-                System.out
-                        .println(javaHome + "/bin/jimage extract --dir=" + jimageDir + " " + javaHome + "/lib/modules");
-                pb.redirectErrorStream(true);
-                Process proc = pb.start();
-                BufferedReader out = new BufferedReader(new InputStreamReader(proc.getInputStream()));
-                String line = null;
-                while ((line = out.readLine()) != null) {
-                    System.out.println(line);
-                }
-
-                int rc = proc.waitFor();
-                System.out.println("JImage RC = " + rc);
-                out.close();
-            } catch (Exception e) {
-                System.out.println("Exception while executing JImage!  Some tests may fail.");
-                e.printStackTrace();
-            }
+            extractJDKModules(TestProperty.signatureImageDir.getValue());
         }
 
         try {
@@ -302,6 +283,74 @@ public abstract class SigTestEE {
         }
     }
 
+    /**
+     * <p>
+     * Extracts the modules of the running JDK into the specified directory as
+     * class files so that they can be used on the signature test classpath.
+     * </p>
+     *
+     * <p>
+     * Extraction takes tens of seconds, so it is skipped when the directory
+     * already contains the modules of the same JDK from an earlier successful
+     * extraction. The JDK is identified by its vendor, runtime version and the
+     * location, size and modification time of its modules image.
+     * </p>
+     *
+     * @param jimageDir The directory that the JDK modules are extracted into.
+     */
+    protected void extractJDKModules(String jimageDir) {
+        File dir = new File(jimageDir);
+        dir.mkdirs();
+
+        String javaHome = System.getProperty("java.home");
+        Path marker = new File(dir, JIMAGE_MARKER).toPath();
+        String jdk = describeJDK(javaHome);
+
+        try {
+            if (Files.isRegularFile(marker) && new File(dir, "java.base").isDirectory()
+                    && jdk.equals(Files.readString(marker))) {
+                System.out.println("JDK modules were already extracted to " + jimageDir + ", skipping JImage");
+                return;
+            }
+            // Remove the marker first so that an incomplete extraction is never reused
+            Files.deleteIfExists(marker);
+        } catch (IOException e) {
+            System.out.println("Unable to check for previously extracted JDK modules: " + e.getMessage());
+        }
+
+        System.out.println("Executing JImage");
+
+        try {
+            ProcessBuilder pb = new ProcessBuilder(javaHome + "/bin/jimage", "extract", "--dir=" + jimageDir,
+                    javaHome + "/lib/modules");
+            System.out.println(javaHome + "/bin/jimage extract --dir=" + jimageDir + " " + javaHome + "/lib/modules");
+            pb.redirectErrorStream(true);
+            Process proc = pb.start();
+            BufferedReader out = new BufferedReader(new InputStreamReader(proc.getInputStream()));
+            String line = null;
+            while ((line = out.readLine()) != null) {
+                System.out.println(line);
+            }
+
+            int rc = proc.waitFor();
+            System.out.println("JImage RC = " + rc);
+            out.close();
+
+            if (rc == 0) {
+                Files.writeString(marker, jdk);
+            }
+        } catch (Exception e) {
+            System.out.println("Exception while executing JImage!  Some tests may fail.");
+            e.printStackTrace();
+        }
+    }
+
+    private static String describeJDK(String javaHome) {
+        File modules = new File(javaHome, "lib" + File.separator + "modules");
+        return System.getProperty("java.vendor") + " " + System.getProperty("java.runtime.version") + " "
+                + modules.getAbsolutePath() + " " + modules.length() + " " + modules.lastModified();
+    }
+
     /**
      * Called by the test framework to cleanup any outstanding state. This method
      * simply passes the message through to the utility class so the implementation
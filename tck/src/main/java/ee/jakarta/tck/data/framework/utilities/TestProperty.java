@@ -15,6 +15,10 @@
  */
 package ee.jakarta.tck.data.framework.utilities;
 
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.logging.Logger;
 
 import ee.jakarta.tck.data.framework.arquillian.extensions.TCKFrameworkAppender;
@@ -44,6 +48,8 @@ public enum TestProperty {
             + "Default: 60 seconds", "60"),
     delay         (false, "jakarta.tck.consistency.delay", "Time in seconds after verifying read-only data was successfully written to respository "
             + "for repository to have consistency. Default: none", ""),
+    queryTimeout  (false, "jakarta.tck.query.timeout",     "Time in seconds within which a query with a very large collection parameter, "
+            + "such as for the In keyword, must complete. Default: 30 seconds", "30"),
     
     //Signature testing properties
     signatureClasspath (false,  "signature.sigTestClasspath", "The path to the Jakarta Data API JAR used by your implementation. "
@@ -53,6 +59,12 @@ public enum TestProperty {
     
     private static final Logger log = Logger.getLogger(TestProperty.class.getCanonicalName());
 
+    /**
+     * Values of all test properties, resolved together on first use.
+     * Replaced as a whole by {@link #refresh()}.
+     */
+    private static volatile Map<TestProperty, String> resolved;
+
     private boolean required;
     private String key;
     private String description;
@@ -107,6 +119,21 @@ public enum TestProperty {
         return Integer.parseInt(getValue());
     }
     
+    public boolean getBoolean() throws IllegalStateException {
+        return Boolean.parseBoolean(getValue());
+    }
+    
+    /**
+     * Get the test property value as a duration, where the value is a number of seconds.
+     * 
+     * @return the property value as a duration
+     * @throws IllegalStateException if required and no property was found
+     * @throws NumberFormatException if the property value is not a whole number of seconds
+     */
+    public Duration getDuration() throws IllegalStateException, NumberFormatException {
+        return Duration.ofSeconds(getLong());
+    }
+    
     /**
      * Get the test property value. 
      * 
@@ -117,7 +144,44 @@ public enum TestProperty {
         return getValue(required);
     }
     
+    /**
+     * Discard the resolved values of all test properties, 
+     * so that they are resolved again from the system and resource file on next use.
+     * Call this after changing system properties that correspond to test properties.
+     */
+    public static void refresh() {
+        resolved = null;
+    }
+    
     private String getValue(boolean verify) throws IllegalStateException {
+        Map<TestProperty, String> values = resolved;
+        if(values == null) {
+            synchronized (TestProperty.class) {
+                values = resolved;
+                if(values == null) {
+                    values = resolveAll();
+                    resolved = values;
+                }
+            }
+        }
+        
+        String value = values.get(this);
+        
+        if(verify && value == null)
+            throw new IllegalStateException("Could not obtain a value for system property: " + key);
+        
+        return value;
+    }
+    
+    private static Map<TestProperty, String> resolveAll() {
+        Map<TestProperty, String> values = new EnumMap<>(TestProperty.class);
+        for(TestProperty property : values()) {
+            values.put(property, property.resolve());
+        }
+        return Collections.unmodifiableMap(values);
+    }
+    
+    private String resolve() {
         String value = null;
         log.fine("Searching for property: " + key);
         
@@ -139,9 +203,6 @@ public enum TestProperty {
             log.fine("Defaulting to value: " + value);
         }
         
-        if(verify && value == null)
-            throw new IllegalStateException("Could not obtain a value for system property: " + key);
-        
         return value;
     }
 }
@@ -49,7 +49,7 @@ public class TestPropertyUtility {
         if(!TestProperty.delay.isSet()) {
             return;
         }
-        Duration delay = Duration.ofSeconds(TestProperty.delay.getLong());
+        Duration delay = TestProperty.delay.getDuration();
         try {
             Thread.sleep(delay.toMillis());
         } catch (InterruptedException e) {
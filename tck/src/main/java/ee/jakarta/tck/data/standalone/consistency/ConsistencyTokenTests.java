@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.consistency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+
+import ee.jakarta.tck.data.framework.junit.anno.AnyEntity;
+import ee.jakarta.tck.data.framework.junit.anno.Assertion;
+import ee.jakarta.tck.data.framework.junit.anno.Standalone;
+import ee.jakarta.tck.data.framework.utilities.TestPropertyUtility;
+import jakarta.data.repository.ConsistencyToken;
+import jakarta.inject.Inject;
+
+/**
+ * Execute tests that read the writes covered by a ConsistencyToken without
+ * waiting for eventual consistency.
+ */
+@Standalone
+@AnyEntity
+public class ConsistencyTokenTests {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(Receipt.class, Receipts.class);
+    }
+
+    @Inject
+    Receipts receipts;
+
+    @BeforeEach
+    public void setup() {
+        receipts.deleteAll();
+
+        //IMPORTANT - the removal is not covered by a token, so wait for eventual consistency
+        TestPropertyUtility.waitForEventualConsistency();
+    }
+
+    @Assertion(id = "133", strategy = "Save entities with a method that returns a ConsistencyToken and immediately " +
+                                      "find and count them with read methods that accept the token.")
+    public void testReadYourWritesWithToken() {
+        ConsistencyToken token;
+        try {
+            token = receipts.save(List.of(Receipt.of(1L, "Customer A", 10.00f),
+                                          Receipt.of(2L, "Customer A", 25.50f),
+                                          Receipt.of(3L, "Customer B", 7.25f),
+                                          Receipt.of(4L, "Customer A", 3.75f)));
+        } catch (UnsupportedOperationException x) {
+            // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+            // when the database is not capable of consistency tokens.
+            return;
+        }
+
+        assertNotNull(token);
+
+        assertEquals(3L, receipts.countByCustomer("Customer A", token));
+
+        List<Long> found = receipts.findByCustomerOrderByIdAsc("Customer A", token)
+                        .stream()
+                        .map(Receipt::getId)
+                        .collect(Collectors.toList());
+
+        assertEquals(List.of(1L, 2L, 4L), found);
+    }
+
+    @Assertion(id = "133", strategy = "Recreate a ConsistencyToken from its value, as another process would, " +
+                                      "and use it to read the writes that the original token covers.")
+    public void testTokenRecreatedFromValue() {
+        ConsistencyToken token;
+        try {
+            token = receipts.save(List.of(Receipt.of(5L, "Customer C", 12.00f),
+                                          Receipt.of(6L, "Customer C", 48.00f)));
+        } catch (UnsupportedOperationException x) {
+            // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+            // when the database is not capable of consistency tokens.
+            return;
+        }
+
+        ConsistencyToken recreated = ConsistencyToken.of(token.value());
+
+        assertEquals(token, recreated);
+        assertEquals(2L, receipts.countByCustomer("Customer C", recreated));
+    }
+}
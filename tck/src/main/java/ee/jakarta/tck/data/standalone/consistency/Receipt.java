@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.consistency;
+
+@jakarta.nosql.Entity
+@jakarta.persistence.Entity
+public class Receipt {
+
+    @jakarta.nosql.Id
+    @jakarta.persistence.Id
+    private long id;
+
+    @jakarta.nosql.Column
+    private String customer;
+
+    @jakarta.nosql.Column
+    private float total;
+
+    public static Receipt of(long id, String customer, float total) {
+        Receipt receipt = new Receipt();
+        receipt.setId(id);
+        receipt.setCustomer(customer);
+        receipt.setTotal(total);
+        return receipt;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getCustomer() {
+        return customer;
+    }
+
+    public void setCustomer(String customer) {
+        this.customer = customer;
+    }
+
+    public float getTotal() {
+        return total;
+    }
+
+    public void setTotal(float total) {
+        this.total = total;
+    }
+}
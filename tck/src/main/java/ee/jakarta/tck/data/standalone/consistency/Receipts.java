@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.consistency;
+
+import java.util.List;
+
+import jakarta.data.repository.ConsistencyToken;
+import jakarta.data.repository.CrudRepository;
+import jakarta.data.repository.Repository;
+
+/**
+ * Repository with methods that return and accept a ConsistencyToken.
+ * It is kept separate from the read-only repositories so that a provider
+ * that does not support consistency tokens only fails the tests that use it.
+ */
+@Repository
+public interface Receipts extends CrudRepository<Receipt, Long> {
+
+    long countByCustomer(String customer, ConsistencyToken token);
+
+    List<Receipt> findByCustomerOrderByIdAsc(String customer, ConsistencyToken token);
+
+    ConsistencyToken save(Iterable<Receipt> receipts);
+}
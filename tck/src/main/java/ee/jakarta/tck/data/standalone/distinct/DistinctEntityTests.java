@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.distinct;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+
+import ee.jakarta.tck.data.framework.junit.anno.Assertion;
+import ee.jakarta.tck.data.framework.junit.anno.Persistence;
+import ee.jakarta.tck.data.framework.junit.anno.Standalone;
+import jakarta.inject.Inject;
+
+/**
+ * Execute tests of the Distinct keyword with an entity that has a collection attribute,
+ * such that an entity can satisfy a condition on the collection through several of its elements.
+ */
+@Standalone
+@Persistence
+public class DistinctEntityTests {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(Article.class, Articles.class);
+    }
+
+    @Inject
+    Articles articles;
+
+    private static final Set<String> TAGS = Set.of("databases", "java", "performance");
+
+    @BeforeEach
+    public void setup() {
+        articles.deleteAll();
+        articles.saveAll(List.of(
+                Article.of(1L, "Indexing Strategies", "databases", "java", "performance"),
+                Article.of(2L, "Records in Practice", "java"),
+                Article.of(3L, "Caching Results", "caching", "performance"),
+                Article.of(4L, "Sharding Tables", "databases", "scaling"),
+                Article.of(5L, "Garden Planning", "outdoors")));
+    }
+
+    @Assertion(id = "133", strategy = "Use the Distinct keyword to count entities with a condition on a collection attribute " +
+                                      "that some entities satisfy through several elements, expecting each entity to be counted once.")
+    public void testCountDistinctByCollectionElements() {
+        assertEquals(4L, articles.countDistinctByTagsIn(TAGS));
+    }
+
+    @Assertion(id = "133", strategy = "Use the Distinct keyword to find entities with a condition on a collection attribute " +
+                                      "that some entities satisfy through several elements, expecting each entity to be found once.")
+    public void testFindDistinctByCollectionElements() {
+        List<Long> found = articles.findDistinctByTagsInOrderByIdAsc(TAGS)
+                        .stream()
+                        .map(Article::getId)
+                        .collect(Collectors.toList());
+
+        // Article 1 has three of the tags and article 4 has two, but each is found once
+        assertEquals(List.of(1L, 2L, 3L, 4L), found);
+    }
+}
@@ -21,10 +21,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Logger;
@@ -46,9 +50,11 @@ import ee.jakarta.tck.data.framework.read.only.NaturalNumber;
 import ee.jakarta.tck.data.framework.read.only.NaturalNumbers;
 import ee.jakarta.tck.data.framework.read.only.NaturalNumbersPopulator;
 import ee.jakarta.tck.data.framework.read.only.NaturalNumber.NumberType;
+import ee.jakarta.tck.data.framework.utilities.TestProperty;
 import jakarta.data.exceptions.EmptyResultException;
 import jakarta.data.exceptions.MappingException;
 import jakarta.data.exceptions.NonUniqueResultException;
+import jakarta.data.exceptions.ScrollExpiredException;
 import jakarta.data.repository.KeysetAwareSlice;
 import jakarta.data.repository.Limit;
 import jakarta.data.repository.Page;
@@ -373,6 +379,70 @@ public class EntityTest {
         assertEquals(false, it.hasNext());
     }
 
+    @Assertion(id = "133", strategy = "Use the First keyword without a number in combination with a Limit parameter, " +
+                                      "expecting the Limit to determine the number of results.")
+    public void testFirstWithLimit() {
+        List<NaturalNumber> found = numbers.findFirstByNumTypeOrderByIdDesc(NumberType.PRIME, Limit.of(5));
+
+        assertEquals(Arrays.toString(new Long[] { 97L, 89L, 83L, 79L, 73L }),
+                     Arrays.toString(found.stream().map(NaturalNumber::getId).toArray()));
+
+        found = numbers.findFirstByNumTypeOrderByIdDesc(NumberType.PRIME, Limit.range(3, 6));
+
+        assertEquals(Arrays.toString(new Long[] { 83L, 79L, 73L, 71L }),
+                     Arrays.toString(found.stream().map(NaturalNumber::getId).toArray()));
+
+        found = numbers.findFirstByNumTypeOrderByIdDesc(NumberType.ONE, Limit.of(5));
+
+        assertEquals(Arrays.toString(new Long[] { 1L }),
+                     Arrays.toString(found.stream().map(NaturalNumber::getId).toArray()));
+    }
+
+    @Assertion(id = "133", strategy = "Use the In keyword with collections of more than 10000 elements, of sizes that are " +
+                                      "and are not powers of 2, including duplicates and values that do not match any entity, " +
+                                      "and verify the results and that each query completes within the query timeout.")
+    public void testInWithLargeCollections() {
+        Duration timeout = TestProperty.queryTimeout.getDuration();
+
+        for (int size : new int[] { 10000, 10007, 16384, 20001 }) {
+            // Odd numbers, starting from a negative number that no entity has,
+            // such that 50 values are odd natural numbers up to 100
+            List<Long> ids = new ArrayList<>(size);
+            for (long id = 1 - 2 * (size - 50); ids.size() < size; id += 2) {
+                ids.add(id);
+            }
+            Collections.shuffle(ids, new Random(size));
+
+            long start = System.nanoTime();
+            Long[] found = numbers.findByIdInOrderByIdAsc(ids)
+                            .map(NaturalNumber::getId)
+                            .toArray(Long[]::new);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+            Long[] expected = new Long[50];
+            for (int i = 0; i < 50; i++) {
+                expected[i] = 2L * i + 1;
+            }
+            assertEquals(Arrays.toString(expected), Arrays.toString(found), "for " + size + " values");
+            assertTrue(elapsed.compareTo(timeout) <= 0,
+                       "Query with " + size + " values took " + elapsed + ", exceeding " + timeout);
+        }
+
+        // Every natural number up to 100, each repeated 120 times
+        List<Long> repeated = new ArrayList<>(12000);
+        for (int i = 0; i < 120; i++) {
+            for (long id = 1; id <= 100; id++) {
+                repeated.add(id);
+            }
+        }
+
+        long start = System.nanoTime();
+        assertEquals(100L, numbers.findByIdInOrderByIdAsc(repeated).count());
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        assertTrue(elapsed.compareTo(timeout) <= 0,
+                   "Query with " + repeated.size() + " values took " + elapsed + ", exceeding " + timeout);
+    }
+
     @Assertion(id = "133",
             strategy = "Request a KeysetAwareSlice of 9 results after the keyset of the 20th result, expecting to find the next 9 results. " +
                        "Then request the KeysetAwareSlice before the keyset of the first entry of the slice, expecting to find the previous 9 results. " +
@@ -455,6 +525,59 @@ public class EntityTest {
         assertEquals(0, slice.numberOfElements());
     }
 
+    @Assertion(id = "133", strategy = "Traverse all KeysetAwareSlices of results in the forward direction, obtaining keyset cursors " +
+                                      "only for some positions, in varying order and more than once, and verify that each cursor " +
+                                      "has the keyset values of the entity at its position and that the next page follows the last entity.")
+    public void testKeysetCursorsObtainedOnDemand() {
+        Long[] expected = new Long[] { 49L, 50L, 51L, 52L, 54L, 55L, 56L, 57L, 58L, 60L, 62L, 63L,
+                                       36L, 38L, 39L, 40L, 42L, 44L, 45L, 46L, 48L,
+                                       25L, 26L, 27L, 28L, 30L, 32L, 33L, 34L, 35L,
+                                       16L, 18L, 20L, 21L, 22L, 24L,
+                                       9L, 10L, 12L, 14L, 15L,
+                                       4L, 6L, 8L };
+
+        Pageable pagination = Pageable.ofSize(9).sortBy(Sort.desc("floorOfSquareRoot"), Sort.asc("id"));
+        List<Long> ids = new ArrayList<>();
+
+        for (int pageCount = 1; pagination != null && pageCount <= 10; pageCount++) {
+            KeysetAwareSlice<NaturalNumber> slice;
+            try {
+                slice = numbers.findByNumTypeAndNumBitsRequiredLessThan(NumberType.COMPOSITE, (short) 7, pagination);
+            } catch (MappingException x) {
+                // Test passes: Jakarta Data providers must raise MappingException when the database
+                // is not capable of keyset pagination.
+                return;
+            }
+
+            if (!slice.hasContent()) {
+                break;
+            }
+
+            List<NaturalNumber> content = slice.content();
+            int last = content.size() - 1;
+
+            // Obtain cursors starting from the end, then the beginning, then the middle, and then again
+            for (int index : new int[] { last, 0, last / 2, last, 0 }) {
+                Pageable.Cursor cursor = slice.getKeysetCursor(index);
+                NaturalNumber number = content.get(index);
+                assertEquals(2, cursor.size());
+                assertEquals(number.getFloorOfSquareRoot(), ((Number) cursor.getKeysetElement(0)).longValue());
+                assertEquals(number.getId(), ((Number) cursor.getKeysetElement(1)).longValue());
+                assertEquals(cursor, slice.getKeysetCursor(index));
+            }
+
+            content.forEach(number -> ids.add(number.getId()));
+
+            pagination = slice.nextPageable();
+            if (pagination != null) {
+                assertEquals(Pageable.Mode.CURSOR_NEXT, pagination.mode());
+                assertEquals(slice.getKeysetCursor(last), pagination.cursor());
+            }
+        }
+
+        assertEquals(Arrays.toString(expected), Arrays.toString(ids.toArray()));
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method with both Sort and Limit, and verify that the Limit caps " +
                                       "the number of results and that results are ordered according to the sort criteria.")
     public void testLimit() {
@@ -602,6 +725,73 @@ public class EntityTest {
         assertEquals(0L, page.totalPages());
     }
 
+    @Assertion(id = "133", strategy = "Request the next Slice of a scroll after its time to live has elapsed, " +
+                                      "expecting ScrollExpiredException because the server-side cursor was released.")
+    public void testScrollExpires() throws InterruptedException {
+        Pageable pagination = Pageable.ofSize(5).scroll(Duration.ofSeconds(1));
+
+        Slice<NaturalNumber> slice;
+        try {
+            slice = numbers.findByIdLessThanOrderByFloorOfSquareRootDesc(25L, pagination);
+        } catch (UnsupportedOperationException x) {
+            // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+            // when the database is not capable of scroll pagination.
+            return;
+        }
+
+        assertEquals(5, slice.numberOfElements());
+        Pageable next = slice.nextPageable();
+        assertNotNull(next);
+
+        Thread.sleep(2500); // more than the time to live
+
+        try {
+            slice = numbers.findByIdLessThanOrderByFloorOfSquareRootDesc(25L, next);
+            fail("Obtained next slice " + slice.content() + " of a scroll after its time to live elapsed.");
+        } catch (ScrollExpiredException x) {
+            // expected
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Traverse all Slices of a scroll, expecting each result exactly once, in the order " +
+                                      "of the sort criteria, and page numbers that increase by 1.")
+    public void testScrollReturnsEachResultOnce() {
+        Pageable pagination = Pageable.ofSize(7).scroll(Duration.ofMinutes(2));
+        List<NaturalNumber> results = new ArrayList<>();
+
+        for (long pageNum = 1; pagination != null && pageNum <= 10; pageNum++) {
+            Slice<NaturalNumber> slice;
+            try {
+                slice = numbers.findByIdLessThanOrderByFloorOfSquareRootDesc(25L, pagination);
+            } catch (UnsupportedOperationException x) {
+                // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+                // when the database is not capable of scroll pagination.
+                return;
+            }
+
+            assertEquals(pageNum, slice.pageable().page());
+            assertEquals(Pageable.Mode.SCROLL, slice.pageable().mode());
+            results.addAll(slice.content());
+
+            pagination = slice.nextPageable();
+            if (pagination != null) {
+                assertEquals(Pageable.Mode.SCROLL, pagination.mode());
+                assertNotNull(pagination.cursor());
+            }
+        }
+
+        assertEquals(24, results.size());
+        Set<Long> ids = new TreeSet<>();
+        long previousSqrtFloor = Long.MAX_VALUE;
+        for (NaturalNumber number : results) {
+            ids.add(number.getId());
+            assertTrue(number.getFloorOfSquareRoot() <= previousSqrtFloor,
+                       "Out of order: " + number.getId() + " after result with floorOfSquareRoot " + previousSqrtFloor);
+            previousSqrtFloor = number.getFloorOfSquareRoot();
+        }
+        assertEquals(24, ids.size(), "Duplicate results: " + results);
+    }
+
     @Assertion(id = "133", strategy = "Use a repository method that returns a single entity value where a single result is found.")
     public void testSingleEntity() {
         AsciiCharacter ch = characters.findByHexadecimalIgnoreCase("2B");
@@ -17,7 +17,9 @@ package ee.jakarta.tck.data.standalone.nosql.example;
 
 import java.util.List;
 
+import jakarta.data.repository.Consistency;
 import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.ReadConsistency;
 import jakarta.data.repository.Repository;
 
 @Repository
@@ -28,6 +30,10 @@ public interface Catalog extends DataRepository<Product, Long> {
     
     int countByPriceGreaterThanEqual(Double price);
     int countBySurgePriceGreaterThanEqual(Double price);
+    int countByNameLike(String name, Consistency consistency);
     
     List<Product> findByNameLike(String name); 
+    
+    @ReadConsistency(Consistency.STRONG)
+    List<Product> findByNameLikeOrderByIdAsc(String name);
 }
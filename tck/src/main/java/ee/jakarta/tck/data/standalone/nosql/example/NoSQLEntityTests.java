@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jboss.arquillian.container.test.api.Deployment;
 import org.jboss.shrinkwrap.api.ShrinkWrap;
@@ -30,6 +31,7 @@ import ee.jakarta.tck.data.framework.junit.anno.NoSQL;
 import ee.jakarta.tck.data.framework.junit.anno.Standalone;
 import ee.jakarta.tck.data.framework.utilities.TestPropertyUtility;
 import jakarta.data.exceptions.MappingException;
+import jakarta.data.repository.Consistency;
 import jakarta.inject.Inject;
 
 /**
@@ -72,4 +74,38 @@ public class NoSQLEntityTests {
         });
         
     }
+    
+    @Assertion(id = "133", strategy = "Read with strong consistency, requested by a special parameter and by an annotation, "
+            + "immediately after writes, without waiting for eventual consistency, expecting the writes to be observed.")
+    public void testStrongConsistencyObservesPriorWrites() {
+        try {
+            catalog.save(Product.of(101L, "stapler", 7.25, 8.00));
+            
+            int count;
+            try {
+                count = catalog.countByNameLike("staple%", Consistency.STRONG);
+            } catch (UnsupportedOperationException x) {
+                // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+                // when the database is not capable of strongly consistent reads.
+                return;
+            }
+            assertEquals(1, count, "Strongly consistent read did not observe the saved product");
+            
+            catalog.save(Product.of(102L, "staple remover", 3.50, 4.00));
+            
+            List<Long> ids = catalog.findByNameLikeOrderByIdAsc("staple%")
+                    .stream()
+                    .map(Product::getId)
+                    .collect(Collectors.toList());
+            assertEquals(List.of(101L, 102L), ids, "Strongly consistent read did not observe the saved products");
+            
+            catalog.deleteById(101L);
+            
+            assertEquals(1, catalog.countByNameLike("staple%", Consistency.STRONG),
+                    "Strongly consistent read did not observe the deletion");
+        } finally {
+            catalog.deleteById(101L);
+            catalog.deleteById(102L);
+        }
+    }
 }
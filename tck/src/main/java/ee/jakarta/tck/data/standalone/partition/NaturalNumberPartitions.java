@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.partition;
+
+import java.util.List;
+
+import ee.jakarta.tck.data.framework.read.only.NaturalNumber;
+import jakarta.data.repository.DataRepository;
+import jakarta.data.repository.Partition;
+import jakarta.data.repository.Repository;
+
+/**
+ * Repository that opts in to partitioned scans of the read-only natural numbers.
+ * It is kept separate from the read-only repositories so that a provider
+ * that does not support partitioned scans only fails the tests that use it.
+ */
+@Repository
+public interface NaturalNumberPartitions extends DataRepository<NaturalNumber, Long> {
+
+    List<Partition<NaturalNumber, Long>> findAllPartitioned(int maxPartitions);
+}
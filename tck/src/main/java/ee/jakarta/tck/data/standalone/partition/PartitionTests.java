@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.partition;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+
+import ee.jakarta.tck.data.framework.junit.anno.AnyEntity;
+import ee.jakarta.tck.data.framework.junit.anno.Assertion;
+import ee.jakarta.tck.data.framework.junit.anno.ReadOnlyTest;
+import ee.jakarta.tck.data.framework.junit.anno.Standalone;
+import ee.jakarta.tck.data.framework.read.only.NaturalNumber;
+import ee.jakarta.tck.data.framework.read.only.NaturalNumbers;
+import ee.jakarta.tck.data.framework.read.only.NaturalNumbersPopulator;
+import jakarta.data.repository.KeysetAwareSlice;
+import jakarta.data.repository.Pageable;
+import jakarta.data.repository.Partition;
+import jakarta.inject.Inject;
+
+/**
+ * Execute tests that divide the read-only natural numbers into partitions
+ * with a repository that declares the findAllPartitioned method.
+ */
+@Standalone
+@AnyEntity
+@ReadOnlyTest
+public class PartitionTests {
+
+    private static final List<Long> ALL_IDS = LongStream.rangeClosed(1, 100).boxed().collect(Collectors.toList());
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(NaturalNumberPartitions.class);
+    }
+
+    @Inject
+    NaturalNumbers numbers;
+
+    @Inject
+    NaturalNumberPartitions partitions;
+
+    @BeforeEach //Inject doesn't happen until after BeforeClass so this is necessary before each test
+    public void setup() {
+        assertNotNull(numbers);
+        NaturalNumbersPopulator.get().populate(numbers);
+    }
+
+    @Assertion(id = "133", strategy = "Request partitions for several maximum numbers of partitions, including 1 and " +
+                                      "more than the number of entities, and verify that the partitions are disjoint, " +
+                                      "ordered, and together contain every entity.")
+    public void testPartitionsAreDisjointAndComplete() {
+        for (int maxPartitions : new int[] { 1, 3, 7, 150 }) {
+            List<Partition<NaturalNumber, Long>> found;
+            try {
+                found = partitions.findAllPartitioned(maxPartitions);
+            } catch (UnsupportedOperationException x) {
+                // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+                // when the database is not capable of ordering by the entity id.
+                return;
+            }
+
+            assertNotNull(found);
+            assertFalse(found.isEmpty(), "No partitions for maxPartitions " + maxPartitions);
+            assertTrue(found.size() <= maxPartitions, found.size() + " partitions for maxPartitions " + maxPartitions);
+            if (maxPartitions == 1)
+                assertEquals(1, found.size());
+
+            assertNull(found.get(0).lowerBound());
+            assertNull(found.get(found.size() - 1).upperBound());
+
+            List<Long> ids = new ArrayList<>();
+            for (int p = 0; p < found.size(); p++) {
+                Partition<NaturalNumber, Long> partition = found.get(p);
+                Long lower = partition.lowerBound();
+                Long upper = partition.upperBound();
+
+                if (p > 0)
+                    assertEquals(found.get(p - 1).upperBound(), lower);
+                if (lower != null && upper != null)
+                    assertTrue(lower < upper, "Partition bounds " + lower + ", " + upper + " are out of order");
+
+                try (Stream<NaturalNumber> stream = partition.stream()) {
+                    stream.map(NaturalNumber::getId).forEach(id -> {
+                        if (lower != null)
+                            assertTrue(id >= lower, "Id " + id + " is below lower bound " + lower);
+                        if (upper != null)
+                            assertTrue(id < upper, "Id " + id + " is not below upper bound " + upper);
+                        ids.add(id);
+                    });
+                }
+            }
+
+            // Ids are read in ascending order within partitions that are in ascending order,
+            // so any duplicate or missing entity makes the list differ from all ids.
+            assertEquals(ALL_IDS, ids, "Partitions for maxPartitions " + maxPartitions);
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Read every partition slice by slice, requesting each subsequent slice " +
+                                      "relative to the last id of the prior slice, and verify that the slices " +
+                                      "together contain every entity.")
+    public void testPartitionSlices() {
+        List<Partition<NaturalNumber, Long>> found;
+        try {
+            found = partitions.findAllPartitioned(4);
+        } catch (UnsupportedOperationException x) {
+            // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+            // when the database is not capable of ordering by the entity id.
+            return;
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Partition<NaturalNumber, Long> partition : found) {
+            Pageable pagination = Pageable.ofSize(9);
+            for (int s = 0; pagination != null; s++) {
+                if (s > 100)
+                    fail("Too many slices for partition with bounds " + partition.lowerBound() + ", " + partition.upperBound());
+
+                KeysetAwareSlice<NaturalNumber> slice = partition.slice(pagination);
+                slice.content().stream().map(NaturalNumber::getId).forEach(ids::add);
+                pagination = slice.hasContent() ? slice.nextPageable() : null;
+            }
+        }
+
+        assertEquals(ALL_IDS, ids);
+    }
+
+    @Assertion(id = "133", strategy = "Request less than 1 partition and verify that IllegalArgumentException is raised.")
+    public void testPartitionsRequireAtLeastOne() {
+        try {
+            List<Partition<NaturalNumber, Long>> found = partitions.findAllPartitioned(0);
+            fail("Obtained " + found + " for maxPartitions 0");
+        } catch (IllegalArgumentException x) {
+            // expected
+        } catch (UnsupportedOperationException x) {
+            // Test passes: Jakarta Data providers must raise UnsupportedOperationException
+            // when the database is not capable of ordering by the entity id.
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.standalone.record;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+
+import ee.jakarta.tck.data.framework.junit.anno.Assertion;
+import ee.jakarta.tck.data.framework.junit.anno.NoSQL;
+import ee.jakarta.tck.data.framework.junit.anno.Standalone;
+import ee.jakarta.tck.data.framework.utilities.TestPropertyUtility;
+import jakarta.data.repository.Sort;
+import jakarta.inject.Inject;
+
+/**
+ * Execute tests with an entity that is a Java record, which the provider must
+ * instantiate via its canonical constructor.
+ * Records are not valid Jakarta Persistence entities, so these tests require NoSQL entity support.
+ */
+@Standalone
+@NoSQL
+public class RecordEntityTests {
+
+    @Deployment
+    public static JavaArchive createDeployment() {
+        return ShrinkWrap.create(JavaArchive.class).addClasses(Book.class, Bookshelf.class);
+    }
+
+    @Inject
+    Bookshelf books;
+
+    private static final List<Book> BOOKS = List.of(
+            new Book(9780000000001L, "First Steps", "Ann Author", 2001, 19.99),
+            new Book(9780000000002L, "Second Thoughts", "Ann Author", 2005, 24.50),
+            new Book(9780000000003L, "Third Time", "Ann Author", 1998, null),
+            new Book(9780000000004L, "Fourth Wall", "Bob Writer", 2010, 12.00),
+            new Book(9780000000005L, "Fifth Element", "Bob Writer", 2003, 30.25));
+
+    @BeforeEach
+    public void setup() {
+        books.deleteAll();
+        books.saveAll(BOOKS);
+
+        //IMPORTANT - all NoSQL tests need to wait for eventual consistency after a write action
+        TestPropertyUtility.waitForEventualConsistency();
+    }
+
+    @Assertion(id = "133", strategy = "Save record entities and find one by id, expecting a record that is equal " +
+                                      "in every component, including a null component.")
+    public void testFindRecordById() {
+        Optional<Book> found = books.findById(9780000000003L);
+
+        assertTrue(found.isPresent());
+        assertEquals(BOOKS.get(2), found.get());
+        assertNotSame(BOOKS.get(2), found.get());
+        assertEquals(1L, books.countByPriceNull());
+    }
+
+    @Assertion(id = "133", strategy = "Find record entities with the OrderBy keyword and verify each record " +
+                                      "is fully constructed and in order.")
+    public void testFindRecordsOrdered() {
+        List<Book> found = books.findByAuthorOrderByYearPublishedAsc("Ann Author");
+
+        assertEquals(List.of(BOOKS.get(2), BOOKS.get(0), BOOKS.get(1)), found);
+    }
+
+    @Assertion(id = "133", strategy = "Stream record entities with dynamic Sort criteria on a record component.")
+    public void testStreamRecordsWithSort() {
+        try (Stream<Book> found = books.findByYearPublishedBetween(2000, 2010, Sort.desc("price"))) {
+            assertEquals(List.of("Fifth Element", "Second Thoughts", "First Steps", "Fourth Wall"),
+                         found.map(Book::title).collect(Collectors.toList()));
+        }
+    }
+
+    @Assertion(id = "133", strategy = "Update a record entity by saving a new instance with the same id " +
+                                      "and verify the new component value is found.")
+    public void testReplaceRecord() {
+        Book discounted = books.save(BOOKS.get(4).withPrice(15.00));
+
+        assertEquals(15.00, discounted.price());
+
+        TestPropertyUtility.waitForEventualConsistency();
+
+        assertEquals(Optional.of(discounted), books.findById(9780000000005L));
+        assertEquals(5L, books.count());
+    }
+}
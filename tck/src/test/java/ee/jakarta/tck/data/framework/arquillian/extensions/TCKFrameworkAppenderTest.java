@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import org.jboss.shrinkwrap.api.Archive;
 import org.jboss.shrinkwrap.api.spec.JavaArchive;
 import org.jboss.shrinkwrap.impl.base.path.BasicPath;
+import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -23,6 +24,18 @@ public class TCKFrameworkAppenderTest {
             }
             System.setProperty(prop.getKey(), "testValue");
         }
+        TestProperty.refresh();
+    }
+    
+    @AfterAll
+    public static void cleanup() {
+        for(TestProperty prop : TestProperty.values()) {
+            if(prop.getKey().startsWith("java.")) {
+                continue;
+            }
+            System.clearProperty(prop.getKey());
+        }
+        TestProperty.refresh();
     }
     
     @Test
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2023 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0, which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the
+ * Eclipse Public License v. 2.0 are satisfied: GNU General Public License,
+ * version 2 with the GNU Classpath Exception, which is available at
+ * https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ */
+package ee.jakarta.tck.data.framework.utilities;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestPropertyTest {
+    
+    // Other tests in the same JVM might have set the properties that these tests read
+    @BeforeEach
+    public void setup() {
+        cleanup();
+    }
+    
+    @AfterEach
+    public void cleanup() {
+        System.clearProperty(TestProperty.delay.getKey());
+        System.clearProperty(TestProperty.pollFrequency.getKey());
+        System.clearProperty(TestProperty.pollTimeout.getKey());
+        System.clearProperty(TestProperty.profile.getKey());
+        TestProperty.refresh();
+    }
+    
+    @Test
+    public void testDurationDefaultsToSeconds() {
+        TestProperty.refresh();
+        assertEquals(Duration.ofSeconds(1), TestProperty.pollFrequency.getDuration());
+        assertEquals(Duration.ofSeconds(60), TestProperty.pollTimeout.getDuration());
+        assertFalse(TestProperty.delay.isSet());
+    }
+    
+    @Test
+    public void testValuesAreResolvedUntilRefresh() {
+        System.setProperty(TestProperty.pollTimeout.getKey(), "5");
+        TestProperty.refresh();
+        assertEquals(Duration.ofSeconds(5), TestProperty.pollTimeout.getDuration());
+        
+        System.setProperty(TestProperty.pollTimeout.getKey(), "10");
+        assertEquals(Duration.ofSeconds(5), TestProperty.pollTimeout.getDuration());
+        
+        TestProperty.refresh();
+        assertEquals(Duration.ofSeconds(10), TestProperty.pollTimeout.getDuration());
+    }
+    
+    @Test
+    public void testStandaloneProfile() {
+        System.setProperty(TestProperty.profile.getKey(), "none");
+        TestProperty.refresh();
+        assertTrue(TestPropertyUtility.isStandalone());
+        
+        System.setProperty(TestProperty.profile.getKey(), "web");
+        TestProperty.refresh();
+        assertFalse(TestPropertyUtility.isStandalone());
+    }
+}